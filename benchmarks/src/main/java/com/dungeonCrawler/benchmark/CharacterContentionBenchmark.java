@@ -0,0 +1,65 @@
+package com.dungeonCrawler.benchmark;
+
+import com.dungeonCrawler.characters.GameCharacter;
+import com.dungeonCrawler.characters.Knight;
+import com.dungeonCrawler.characters.Vitals;
+import com.dungeonCrawler.utils.RandomStreams;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * GameCharacter mutators hit by several threads at once, as the parallel attack
+ * tasks in CombatRoom do.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class CharacterContentionBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class SharedHero {
+        @Param({"ATOMIC", "MONITOR"})
+        Vitals.Kind vitals;
+
+        GameCharacter hero;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            GameCharacter.setDefaultVitals(vitals);
+            hero = new Knight("Theron", new RandomStreams(7).split());
+        }
+    }
+
+    @Benchmark
+    public int takeDamage(SharedHero shared) {
+        shared.hero.takeDamage(1);
+        return shared.hero.getHealth();
+    }
+
+    @Benchmark
+    public int snapshotWhileFighting(SharedHero shared) {
+        shared.hero.takeDamage(1);
+        return shared.hero.snapshot().getHealth();
+    }
+
+    @Benchmark
+    public int addExperienceSilent(SharedHero shared) {
+        shared.hero.addExperienceSilent(7);
+        return shared.hero.getLevel();
+    }
+}
@@ -0,0 +1,83 @@
+package com.dungeonCrawler.benchmark;
+
+import com.dungeonCrawler.characters.GameCharacter;
+import com.dungeonCrawler.characters.Knight;
+import com.dungeonCrawler.characters.Thief;
+import com.dungeonCrawler.characters.Wizard;
+import com.dungeonCrawler.rooms.CombatExecutor;
+import com.dungeonCrawler.rooms.CombatRoom;
+import com.dungeonCrawler.utils.RandomStreams;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Full CombatRoom fights (conductMultithreadedCombat) for each attack execution mode.
+ * The "rounds" counter turns fights/sec into rounds/sec.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class CombatBenchmark {
+
+    @Param({"THREAD_PER_ATTACK", "POOLED", "VIRTUAL"})
+    public CombatExecutor.Mode mode;
+
+    private RandomStreams streams;
+    private GameCharacter[] party;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Rounds {
+        public long rounds;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rounds = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CombatExecutor.setMode(mode);
+        streams = new RandomStreams(42);
+        party = newParty();
+    }
+
+    @Benchmark
+    public int fight(Rounds counter) {
+        CombatRoom room = new CombatRoom(8, null, streams.split());
+        room.engageParty(party);
+        counter.rounds += room.getRoundsFought() + 1;
+        for (GameCharacter hero : party) {
+            hero.getBattleLog().clear();
+            if (!hero.isCharacterAlive()) {
+                party = newParty();
+                break;
+            }
+        }
+        return room.getLastGoldEarned();
+    }
+
+    private GameCharacter[] newParty() {
+        return new GameCharacter[] {
+            new Knight("Theron", streams.split()),
+            new Thief("Shadowblade", streams.split()),
+            new Wizard("Arcanis", streams.split())
+        };
+    }
+}
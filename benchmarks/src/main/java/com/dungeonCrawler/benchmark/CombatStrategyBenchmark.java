@@ -0,0 +1,266 @@
+package com.dungeonCrawler.benchmark;
+
+import com.dungeonCrawler.characters.BattleLog;
+import com.dungeonCrawler.characters.CombatStrategy;
+import com.dungeonCrawler.characters.GameCharacter;
+import com.dungeonCrawler.characters.Knight;
+import com.dungeonCrawler.characters.Thief;
+import com.dungeonCrawler.characters.Wizard;
+import com.dungeonCrawler.rooms.CombatJournal;
+import com.dungeonCrawler.utils.RandomStreams;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of one hero attack through the per-class CombatStrategy call, with the 3 hero
+ * classes of the game today and with 20 (17 extra strategy classes attached to plain
+ * heroes). Every class is its own receiver type with its own attack(), as 20 real hero
+ * classes would be. Each extra class wraps the strategy of the hero it is attached to,
+ * so both sizes do the same damage work and differ only in how the call dispatches.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CombatStrategyBenchmark {
+    private static final int HEROES = 60;
+
+    @Param({"3", "20"})
+    int classes;
+
+    GameCharacter[] heroes;
+    SplittableRandom random;
+    CombatJournal journal;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        // keep the journal from growing: no text is stored
+        BattleLog.setTextRendering(false);
+        journal = new CombatJournal();
+        RandomStreams streams = new RandomStreams(42);
+        random = streams.split();
+
+        heroes = new GameCharacter[HEROES];
+        for (int i = 0; i < HEROES; i++) {
+            int kind = i % classes;
+            if (kind == 0) {
+                heroes[i] = new Knight("Knight " + i, streams.split());
+            } else if (kind == 1) {
+                heroes[i] = new Thief("Thief " + i, streams.split());
+            } else if (kind == 2) {
+                heroes[i] = new Wizard("Wizard " + i, streams.split());
+            } else {
+                heroes[i] = kind % 3 == 0 ? new Knight("Hero " + i, streams.split())
+                    : kind % 3 == 1 ? new Thief("Hero " + i, streams.split())
+                    : new Wizard("Hero " + i, streams.split());
+                heroes[i].setCombatStrategy(extra(kind + 1, heroes[i].getCombatStrategy()));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(HEROES)
+    public int attack() {
+        int total = 0;
+        for (GameCharacter hero : heroes) {
+            int baseDamage = random.nextInt(12) + 8;
+            total += hero.getCombatStrategy().attack(baseDamage, random, journal);
+        }
+        return total;
+    }
+
+    /**
+     * Extra hero class number (4 to 20), fighting like the given strategy plus a
+     * small bonus.
+     */
+    private static CombatStrategy extra(int number, CombatStrategy base) {
+        switch (number) {
+            case 4: return new Extra04(base);
+            case 5: return new Extra05(base);
+            case 6: return new Extra06(base);
+            case 7: return new Extra07(base);
+            case 8: return new Extra08(base);
+            case 9: return new Extra09(base);
+            case 10: return new Extra10(base);
+            case 11: return new Extra11(base);
+            case 12: return new Extra12(base);
+            case 13: return new Extra13(base);
+            case 14: return new Extra14(base);
+            case 15: return new Extra15(base);
+            case 16: return new Extra16(base);
+            case 17: return new Extra17(base);
+            case 18: return new Extra18(base);
+            case 19: return new Extra19(base);
+            case 20: return new Extra20(base);
+            default: throw new IllegalArgumentException("No extra class " + number);
+        }
+    }
+
+    static final class Extra04 implements CombatStrategy {
+        private final CombatStrategy base;
+        Extra04(CombatStrategy base) { this.base = base; }
+        @Override
+        public int attack(int baseDamage, SplittableRandom random, CombatJournal journal) {
+            return base.attack(baseDamage, random, journal) + 1;
+        }
+    }
+
+    static final class Extra05 implements CombatStrategy {
+        private final CombatStrategy base;
+        Extra05(CombatStrategy base) { this.base = base; }
+        @Override
+        public int attack(int baseDamage, SplittableRandom random, CombatJournal journal) {
+            return base.attack(baseDamage, random, journal) + 2;
+        }
+    }
+
+    static final class Extra06 implements CombatStrategy {
+        private final CombatStrategy base;
+        Extra06(CombatStrategy base) { this.base = base; }
+        @Override
+        public int attack(int baseDamage, SplittableRandom random, CombatJournal journal) {
+            return base.attack(baseDamage, random, journal) + 3;
+        }
+    }
+
+    static final class Extra07 implements CombatStrategy {
+        private final CombatStrategy base;
+        Extra07(CombatStrategy base) { this.base = base; }
+        @Override
+        public int attack(int baseDamage, SplittableRandom random, CombatJournal journal) {
+            return base.attack(baseDamage, random, journal) + 4;
+        }
+    }
+
+    static final class Extra08 implements CombatStrategy {
+        private final CombatStrategy base;
+        Extra08(CombatStrategy base) { this.base = base; }
+        @Override
+        public int attack(int baseDamage, SplittableRandom random, CombatJournal journal) {
+            return base.attack(baseDamage, random, journal) + 5;
+        }
+    }
+
+    static final class Extra09 implements CombatStrategy {
+        private final CombatStrategy base;
+        Extra09(CombatStrategy base) { this.base = base; }
+        @Override
+        public int attack(int baseDamage, SplittableRandom random, CombatJournal journal) {
+            return base.attack(baseDamage, random, journal) + 6;
+        }
+    }
+
+    static final class Extra10 implements CombatStrategy {
+        private final CombatStrategy base;
+        Extra10(CombatStrategy base) { this.base = base; }
+        @Override
+        public int attack(int baseDamage, SplittableRandom random, CombatJournal journal) {
+            return base.attack(baseDamage, random, journal) + 7;
+        }
+    }
+
+    static final class Extra11 implements CombatStrategy {
+        private final CombatStrategy base;
+        Extra11(CombatStrategy base) { this.base = base; }
+        @Override
+        public int attack(int baseDamage, SplittableRandom random, CombatJournal journal) {
+            return base.attack(baseDamage, random, journal) + 8;
+        }
+    }
+
+    static final class Extra12 implements CombatStrategy {
+        private final CombatStrategy base;
+        Extra12(CombatStrategy base) { this.base = base; }
+        @Override
+        public int attack(int baseDamage, SplittableRandom random, CombatJournal journal) {
+            return base.attack(baseDamage, random, journal) + 9;
+        }
+    }
+
+    static final class Extra13 implements CombatStrategy {
+        private final CombatStrategy base;
+        Extra13(CombatStrategy base) { this.base = base; }
+        @Override
+        public int attack(int baseDamage, SplittableRandom random, CombatJournal journal) {
+            return base.attack(baseDamage, random, journal) + 10;
+        }
+    }
+
+    static final class Extra14 implements CombatStrategy {
+        private final CombatStrategy base;
+        Extra14(CombatStrategy base) { this.base = base; }
+        @Override
+        public int attack(int baseDamage, SplittableRandom random, CombatJournal journal) {
+            return base.attack(baseDamage, random, journal) + 11;
+        }
+    }
+
+    static final class Extra15 implements CombatStrategy {
+        private final CombatStrategy base;
+        Extra15(CombatStrategy base) { this.base = base; }
+        @Override
+        public int attack(int baseDamage, SplittableRandom random, CombatJournal journal) {
+            return base.attack(baseDamage, random, journal) + 12;
+        }
+    }
+
+    static final class Extra16 implements CombatStrategy {
+        private final CombatStrategy base;
+        Extra16(CombatStrategy base) { this.base = base; }
+        @Override
+        public int attack(int baseDamage, SplittableRandom random, CombatJournal journal) {
+            return base.attack(baseDamage, random, journal) + 13;
+        }
+    }
+
+    static final class Extra17 implements CombatStrategy {
+        private final CombatStrategy base;
+        Extra17(CombatStrategy base) { this.base = base; }
+        @Override
+        public int attack(int baseDamage, SplittableRandom random, CombatJournal journal) {
+            return base.attack(baseDamage, random, journal) + 14;
+        }
+    }
+
+    static final class Extra18 implements CombatStrategy {
+        private final CombatStrategy base;
+        Extra18(CombatStrategy base) { this.base = base; }
+        @Override
+        public int attack(int baseDamage, SplittableRandom random, CombatJournal journal) {
+            return base.attack(baseDamage, random, journal) + 15;
+        }
+    }
+
+    static final class Extra19 implements CombatStrategy {
+        private final CombatStrategy base;
+        Extra19(CombatStrategy base) { this.base = base; }
+        @Override
+        public int attack(int baseDamage, SplittableRandom random, CombatJournal journal) {
+            return base.attack(baseDamage, random, journal) + 16;
+        }
+    }
+
+    static final class Extra20 implements CombatStrategy {
+        private final CombatStrategy base;
+        Extra20(CombatStrategy base) { this.base = base; }
+        @Override
+        public int attack(int baseDamage, SplittableRandom random, CombatJournal journal) {
+            return base.attack(baseDamage, random, journal) + 17;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.dungeonCrawler.benchmark;
+
+import com.dungeonCrawler.characters.GameCharacter;
+import com.dungeonCrawler.characters.Knight;
+import com.dungeonCrawler.characters.Thief;
+import com.dungeonCrawler.characters.Wizard;
+import com.dungeonCrawler.engine.FloorState;
+import com.dungeonCrawler.engine.GameEngine;
+import com.dungeonCrawler.rooms.RoomOption;
+import com.dungeonCrawler.rooms.ShopRoom;
+import com.dungeonCrawler.utils.OutputSink;
+import com.dungeonCrawler.utils.RandomStreams;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Engine reads (floor, shop availability, room count) by 7 threads while 1 thread keeps
+ * changing the state: the FloorState snapshot in GameEngine against the same fields
+ * behind a ReentrantReadWriteLock (the old engine).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class EngineStateBenchmark {
+
+    private GameEngine engine;
+    private LockedFloor locked;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        RandomStreams streams = new RandomStreams(5);
+        GameCharacter[] party = {
+            new Knight("Theron", streams.split()),
+            new Thief("Shadowblade", streams.split()),
+            new Wizard("Arcanis", streams.split())
+        };
+        engine = new GameEngine(party, 15, streams.fork());
+        engine.setOutput(OutputSink.NULL);
+        engine.generateFloorRooms();
+        locked = new LockedFloor(engine.getFloorState().getRooms(), engine.getShopRoom());
+    }
+
+    @Benchmark
+    @Group("snapshot")
+    @GroupThreads(7)
+    public int snapshotRead() {
+        FloorState floor = engine.getFloorState();
+        return floor.getFloor() + (floor.isShopAvailable() ? 1 : 0) + floor.getRooms().size();
+    }
+
+    @Benchmark
+    @Group("snapshot")
+    @GroupThreads(1)
+    public boolean snapshotWrite() {
+        engine.setGameActive(false);
+        engine.setGameActive(true);
+        return engine.isGameActive();
+    }
+
+    @Benchmark
+    @Group("rwLock")
+    @GroupThreads(7)
+    public int rwLockRead() {
+        return locked.getCurrentFloor() + (locked.isShopAvailable() ? 1 : 0) + locked.getRoomCount();
+    }
+
+    @Benchmark
+    @Group("rwLock")
+    @GroupThreads(1)
+    public boolean rwLockWrite() {
+        locked.setGameActive(false);
+        locked.setGameActive(true);
+        return locked.isGameActive();
+    }
+
+    /**
+     * Floor fields as the engine kept them before FloorState: rooms behind the read-write
+     * lock, the flag and the shop behind it too so the comparison is like for like.
+     */
+    static final class LockedFloor {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final List<RoomOption> rooms;
+        private final ShopRoom shopRoom;
+        private int currentFloor = 1;
+        private boolean gameActive = true;
+
+        LockedFloor(List<RoomOption> rooms, ShopRoom shopRoom) {
+            this.rooms = new ArrayList<>(rooms);
+            this.shopRoom = shopRoom;
+        }
+
+        int getRoomCount() {
+            lock.readLock().lock();
+            try {
+                return rooms.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        int getCurrentFloor() {
+            lock.readLock().lock();
+            try {
+                return currentFloor;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        boolean isShopAvailable() {
+            lock.readLock().lock();
+            try {
+                return shopRoom != null && !shopRoom.isVisited();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        boolean isGameActive() {
+            lock.readLock().lock();
+            try {
+                return gameActive;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void setGameActive(boolean active) {
+            lock.writeLock().lock();
+            try {
+                gameActive = active;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+}
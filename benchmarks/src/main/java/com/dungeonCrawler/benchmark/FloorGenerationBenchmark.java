@@ -0,0 +1,100 @@
+package com.dungeonCrawler.benchmark;
+
+import com.dungeonCrawler.characters.GameCharacter;
+import com.dungeonCrawler.characters.Knight;
+import com.dungeonCrawler.characters.Thief;
+import com.dungeonCrawler.characters.Wizard;
+import com.dungeonCrawler.engine.GameEngine;
+import com.dungeonCrawler.rooms.FloorGenerator;
+import com.dungeonCrawler.rooms.FloorLayout;
+import com.dungeonCrawler.rooms.Room;
+import com.dungeonCrawler.rooms.RoomOption;
+import com.dungeonCrawler.rooms.RoomPool;
+import com.dungeonCrawler.utils.OutputSink;
+import com.dungeonCrawler.utils.RandomStreams;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * GameEngine floor set-up (layout cache hit), building a layout from scratch and a whole
+ * 15-floor campaign in parallel, and one round of room options: building every option
+ * eagerly (the old behaviour), only the chosen one, and the chosen one from a RoomPool.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FloorGenerationBenchmark {
+
+    private GameEngine engine;
+    private RoomPool pool;
+    private Set<GameCharacter> restingHeroes;
+    private long seed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RandomStreams streams = new RandomStreams(3);
+        GameCharacter[] party = {
+            new Knight("Theron", streams.split()),
+            new Thief("Shadowblade", streams.split()),
+            new Wizard("Arcanis", streams.split())
+        };
+        engine = new GameEngine(party, 15, streams.fork());
+        engine.setOutput(OutputSink.NULL);
+        engine.generateFloorRooms();
+        pool = new RoomPool();
+        restingHeroes = new HashSet<>();
+    }
+
+    @Benchmark
+    public Room generateFloorRooms() {
+        engine.generateFloorRooms();
+        return engine.getNextRoom();
+    }
+
+    @Benchmark
+    public FloorLayout buildLayout() {
+        return FloorGenerator.build(seed++, 7);
+    }
+
+    @Benchmark
+    public List<FloorLayout> generateCampaignUncached() {
+        FloorGenerator.clearCache();
+        return new FloorGenerator(seed++).generateCampaign(15);
+    }
+
+    @Benchmark
+    public Room roomOptionsEager() {
+        List<RoomOption> options = engine.generateRoomOptions(restingHeroes);
+        Room chosen = null;
+        for (RoomOption option : options) {
+            chosen = option.materialize();
+        }
+        return chosen;
+    }
+
+    @Benchmark
+    public Room roomOptionsLazy() {
+        return engine.generateRoomOptions(restingHeroes).get(0).materialize();
+    }
+
+    @Benchmark
+    public Room roomOptionsPooled() {
+        return engine.generateRoomOptions(restingHeroes).get(0).materialize(pool);
+    }
+}
@@ -0,0 +1,67 @@
+package com.dungeonCrawler.benchmark;
+
+import com.dungeonCrawler.characters.GameCharacter;
+import com.dungeonCrawler.characters.Knight;
+import com.dungeonCrawler.characters.Thief;
+import com.dungeonCrawler.characters.Wizard;
+import com.dungeonCrawler.utils.GameLogger;
+import com.dungeonCrawler.utils.RandomStreams;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End-of-game statistics aggregation, with console output discarded so only the
+ * stream aggregation and string building are measured.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameLoggerBenchmark {
+
+    private GameCharacter[] party;
+    private PrintStream originalOut;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RandomStreams streams = new RandomStreams(11);
+        party = new GameCharacter[] {
+            new Knight("Theron", streams.split()),
+            new Thief("Shadowblade", streams.split()),
+            new Wizard("Arcanis", streams.split())
+        };
+        for (GameCharacter hero : party) {
+            hero.addExperienceSilent(1250);
+            hero.addGoldSilent(900);
+            hero.winBattle();
+        }
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public GameCharacter[] printGameStatistics() {
+        GameLogger.printGameStatistics(party);
+        return party;
+    }
+}
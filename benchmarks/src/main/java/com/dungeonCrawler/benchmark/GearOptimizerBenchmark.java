@@ -0,0 +1,78 @@
+package com.dungeonCrawler.benchmark;
+
+import com.dungeonCrawler.characters.GameCharacter;
+import com.dungeonCrawler.characters.GearOptimizer;
+import com.dungeonCrawler.characters.Knight;
+import com.dungeonCrawler.characters.Thief;
+import com.dungeonCrawler.characters.Wizard;
+import com.dungeonCrawler.items.Equipment;
+import com.dungeonCrawler.items.EquipmentType;
+import com.dungeonCrawler.items.Inventory;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Party-wide gear optimization over a light party and one whose three bags are full (150 items).
+ * checkOptimal is the per-room cost for bots once gear is settled; reshuffle strips
+ * every hero and re-equips from scratch.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GearOptimizerBenchmark {
+
+    @Param({"30", "150"})
+    public int partyItems;
+
+    private GameCharacter[] party;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        party = new GameCharacter[] {
+            new Knight("Theron", new SplittableRandom(1)),
+            new Thief("Shadowblade", new SplittableRandom(2)),
+            new Wizard("Arcanis", new SplittableRandom(3))
+        };
+        SplittableRandom random = new SplittableRandom(42);
+        EquipmentType[] types = EquipmentType.values();
+        for (int i = 0; i < partyItems; i++) {
+            Inventory inventory = party[i % party.length].getInventory();
+            inventory.addEquipment(new Equipment(types[random.nextInt(types.length)], 1 + random.nextInt(40)));
+        }
+        GearOptimizer.optimize(party);
+    }
+
+    @Benchmark
+    public int checkOptimal() {
+        return GearOptimizer.countChanges(party);
+    }
+
+    @Benchmark
+    public int reshuffle() {
+        for (GameCharacter hero : party) {
+            Inventory inventory = hero.getInventory();
+            for (EquipmentType type : EquipmentType.values()) {
+                Equipment worn = inventory.removeEquipped(type);
+                if (worn != null) {
+                    inventory.addEquipment(worn);
+                }
+            }
+        }
+        return GearOptimizer.optimize(party);
+    }
+}
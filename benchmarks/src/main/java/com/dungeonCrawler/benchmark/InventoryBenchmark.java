@@ -0,0 +1,91 @@
+package com.dungeonCrawler.benchmark;
+
+import com.dungeonCrawler.items.Equipment;
+import com.dungeonCrawler.items.EquipmentType;
+import com.dungeonCrawler.items.Inventory;
+import com.dungeonCrawler.items.Potion;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Inventory potion stacking, potion use, equip/remove and bag copies, from a normal
+ * bag up to 10k items (all single operations should stay flat as the bag grows).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InventoryBenchmark {
+
+    @Param({"10", "45", "10000"})
+    public int bagItems;
+
+    private Inventory inventory;
+    private Equipment probe;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        inventory = new Inventory(bagItems + 16);
+        EquipmentType[] types = EquipmentType.values();
+        for (int i = 0; i < bagItems; i++) {
+            inventory.addEquipment(new Equipment(types[i % types.length], 1 + i / types.length));
+        }
+        // an item in the middle of the bag
+        probe = inventory.getBagEquipment().get(bagItems / 2);
+        for (Potion.PotionType type : Potion.PotionType.values()) {
+            inventory.addPotion(new Potion(type, 1));
+        }
+    }
+
+    @Benchmark
+    public Potion addThenUsePotion() {
+        inventory.addPotion(new Potion(Potion.PotionType.VIGOR, 1));
+        return inventory.usePotion(Potion.PotionType.VIGOR);
+    }
+
+    @Benchmark
+    public boolean addPotionStack() {
+        return inventory.addPotion(new Potion(Potion.PotionType.MANA, 1));
+    }
+
+    @Benchmark
+    public Equipment removeThenAddEquipment() {
+        Equipment removed = inventory.removeEquipmentInstance(probe);
+        inventory.addEquipment(probe);
+        return removed;
+    }
+
+    @Benchmark
+    public Equipment equipThenReturnToBag() {
+        inventory.equipEquipment(probe);
+        Equipment worn = inventory.removeEquipped(probe.getType());
+        inventory.addEquipment(worn);
+        return worn;
+    }
+
+    @Benchmark
+    public List<Equipment> getBagEquipment() {
+        return inventory.getBagEquipment();
+    }
+
+    @Benchmark
+    public int forEachBagItem() {
+        int[] levels = new int[1];
+        inventory.forEachBagItem(eq -> levels[0] += eq.getLevel());
+        return levels[0];
+    }
+}
@@ -0,0 +1,102 @@
+package com.dungeonCrawler.benchmark;
+
+import com.dungeonCrawler.items.Equipment;
+import com.dungeonCrawler.items.EquipmentType;
+import com.dungeonCrawler.items.Inventory;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Read-mostly mixes on one shared inventory: the StampedLock Inventory against the
+ * all-synchronized LegacyInventory. Each group runs 7 readers (equipped slot, space and
+ * size checks) and 1 writer (equip, unequip, return to bag); the readOnly groups show
+ * the no-write case.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class InventoryLockBenchmark {
+
+    private Inventory stamped;
+    private LegacyInventory legacy;
+    private Equipment stampedProbe;
+    private Equipment legacyProbe;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        stamped = new Inventory();
+        legacy = new LegacyInventory();
+        EquipmentType[] types = EquipmentType.values();
+        for (int i = 0; i < 20; i++) {
+            stamped.addEquipment(new Equipment(types[i % types.length], 1 + i));
+            legacy.addEquipment(new Equipment(types[i % types.length], 1 + i));
+        }
+        stampedProbe = stamped.getBagEquipment().get(0);
+        legacyProbe = legacy.getBagEquipment().get(0);
+    }
+
+    @Benchmark
+    @Group("stamped")
+    @GroupThreads(7)
+    public int stampedRead() {
+        Equipment weapon = stamped.getEquipped(stampedProbe.getType());
+        return (weapon != null ? 1 : 0) + (stamped.hasSpace() ? 1 : 0) + stamped.getCurrentSize();
+    }
+
+    @Benchmark
+    @Group("stamped")
+    @GroupThreads(1)
+    public Equipment stampedWrite() {
+        stamped.equipEquipment(stampedProbe);
+        Equipment worn = stamped.removeEquipped(stampedProbe.getType());
+        stamped.addEquipment(worn);
+        return worn;
+    }
+
+    @Benchmark
+    @Group("legacy")
+    @GroupThreads(7)
+    public int legacyRead() {
+        Equipment weapon = legacy.getEquipped(legacyProbe.getType());
+        return (weapon != null ? 1 : 0) + (legacy.hasSpace() ? 1 : 0) + legacy.getCurrentSize();
+    }
+
+    @Benchmark
+    @Group("legacy")
+    @GroupThreads(1)
+    public Equipment legacyWrite() {
+        legacy.equipEquipment(legacyProbe);
+        Equipment worn = legacy.removeEquipped(legacyProbe.getType());
+        legacy.addEquipment(worn);
+        return worn;
+    }
+
+    @Benchmark
+    @Group("stampedReadOnly")
+    @GroupThreads(8)
+    public int stampedReadOnly() {
+        return stampedRead();
+    }
+
+    @Benchmark
+    @Group("legacyReadOnly")
+    @GroupThreads(8)
+    public int legacyReadOnly() {
+        return legacyRead();
+    }
+}
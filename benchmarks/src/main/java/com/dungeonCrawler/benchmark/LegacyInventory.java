@@ -0,0 +1,274 @@
+package com.dungeonCrawler.benchmark;
+
+import com.dungeonCrawler.items.Equipment;
+import com.dungeonCrawler.items.EquipmentType;
+import com.dungeonCrawler.items.Potion;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Copy of the monitor-based Inventory (every method synchronized), kept as the
+ * baseline for InventoryLockBenchmark. Listener notification is left out.
+ */
+public class LegacyInventory {
+    private static final int DEFAULT_CAPACITY = 50;
+
+    // Equipped items: one per EquipmentType
+    private final Map<EquipmentType, Equipment> equipped;
+    // Bag/backpack: a bucket per type; each bucket keeps insertion order
+    private final Map<EquipmentType, Set<Equipment>> bag;
+    // One stack per potion type
+    private final Map<Potion.PotionType, Potion> potions;
+    private long version;
+    private int bagSize;
+    private int capacity;
+    private int currentSize;
+    
+    public LegacyInventory() {
+        this(DEFAULT_CAPACITY);
+    }
+    
+    public LegacyInventory(int capacity) {
+        this.equipped = new EnumMap<>(EquipmentType.class);
+        this.bag = new EnumMap<>(EquipmentType.class);
+        for (EquipmentType type : EquipmentType.values()) {
+            bag.put(type, new LinkedHashSet<>());
+        }
+        this.potions = new EnumMap<>(Potion.PotionType.class);
+        this.version = 0;
+        this.bagSize = 0;
+        this.capacity = capacity;
+        this.currentSize = 0;
+    }
+    
+    /**
+     * Add equipment to the bag (thread-safe). Does not equip.
+     */
+    public synchronized boolean addEquipment(Equipment item) {
+        if (currentSize >= capacity) {
+            return false;
+        }
+        if (!bag.get(item.getType()).add(item)) {
+            return false; // already in the bag
+        }
+        bagSize++;
+        currentSize++;
+        version++;
+        return true;
+    }
+    
+    /**
+     * Add potion to inventory (thread-safe).
+     */
+    public synchronized boolean addPotion(Potion potion) {
+        Potion stack = potions.get(potion.getType());
+        if (stack != null) {
+            stack.setQuantity(stack.getQuantity() + potion.getQuantity());
+        } else {
+            if (currentSize >= capacity) {
+                return false;
+            }
+            potions.put(potion.getType(), potion);
+            currentSize++;
+        }
+        version++;
+        return true;
+    }
+    
+    /**
+     * Unequip equipment of the given type (remove from equipped slots).
+     */
+    public synchronized Equipment removeEquipped(EquipmentType type) {
+        Equipment removed = equipped.remove(type);
+        if (removed != null) {
+            // returned equipment goes back to bag manually by caller if desired;
+            // equipped items are not counted in currentSize, so nothing to release
+            version++;
+        }
+        return removed;
+    }
+
+    /**
+     * Remove a specific equipment instance from the bag.
+     */
+    public synchronized Equipment removeEquipmentInstance(Equipment item) {
+        if (removeFromBag(item)) {
+            currentSize--;
+            version++;
+            return item;
+        }
+        return null;
+    }
+    
+    /**
+     * Use a potion from inventory. Returns the stack after use, or null if there is none.
+     */
+    public synchronized Potion usePotion(Potion.PotionType type) {
+        Potion stack = potions.get(type);
+        if (stack == null || stack.getQuantity() <= 0) {
+            return null;
+        }
+        stack.use();
+        if (stack.getQuantity() == 0) {
+            potions.remove(type);
+            currentSize--;
+        }
+        version++;
+        return stack;
+    }
+    
+    /**
+     * Number of potions of the given type.
+     */
+    public synchronized int getPotionCount(Potion.PotionType type) {
+        Potion stack = potions.get(type);
+        return stack != null ? stack.getQuantity() : 0;
+    }
+    
+    /**
+     * Get currently equipped item by type.
+     */
+    public synchronized Equipment getEquipped(EquipmentType type) {
+        return equipped.get(type);
+    }
+
+    /**
+     * Get all equipped items.
+     */
+    public synchronized Map<EquipmentType, Equipment> getAllEquipped() {
+        return new EnumMap<>(equipped);
+    }
+
+    /**
+     * Get all bag (unequipped) equipment, grouped by type.
+     */
+    public synchronized List<Equipment> getBagEquipment() {
+        List<Equipment> items = new ArrayList<>(bagSize);
+        for (Set<Equipment> bucket : bag.values()) {
+            items.addAll(bucket);
+        }
+        return items;
+    }
+
+    /**
+     * Get bag equipment of one type.
+     */
+    public synchronized List<Equipment> getBagEquipment(EquipmentType type) {
+        return new ArrayList<>(bag.get(type));
+    }
+
+    /**
+     * Equip an equipment from the bag. Returns the previously equipped item (if any).
+     * Caller is responsible for placing the returned item back into a bag (addEquipment).
+     */
+    public synchronized Equipment equipEquipment(Equipment item) {
+        // remove from bag if present
+        if (!removeFromBag(item)) return null;
+        currentSize--;
+        Equipment prev = equipped.put(item.getType(), item);
+        version++;
+        return prev;
+    }
+
+    /**
+     * Get all potions.
+     */
+    public synchronized List<Potion> getAllPotions() {
+        return new ArrayList<>(potions.values());
+    }
+    
+    /**
+     * Check if inventory has space.
+     */
+    public synchronized boolean hasSpace() {
+        return currentSize < capacity;
+    }
+    
+    /**
+     * Clear inventory.
+     */
+    public synchronized void clear() {
+        equipped.clear();
+        for (Set<Equipment> bucket : bag.values()) {
+            bucket.clear();
+        }
+        potions.clear();
+        bagSize = 0;
+        currentSize = 0;
+        version++;
+    }
+    
+    /**
+     * Number of changes made so far; a cheap way to tell whether anything changed.
+     */
+    public synchronized long getVersion() { return version; }
+    
+    // ===== Zero-copy reads =====
+    
+    /**
+     * Visit every bag item (grouped by type) under the lock, without copying.
+     */
+    public synchronized void forEachBagItem(Consumer<Equipment> action) {
+        for (Set<Equipment> bucket : bag.values()) {
+            bucket.forEach(action);
+        }
+    }
+    
+    /**
+     * Visit every potion stack under the lock, without copying.
+     */
+    public synchronized void forEachPotion(Consumer<Potion> action) {
+        potions.values().forEach(action);
+    }
+    
+    /**
+     * Visit every equipped item under the lock, without copying.
+     */
+    public synchronized void forEachEquipped(Consumer<Equipment> action) {
+        equipped.values().forEach(action);
+    }
+    
+    /**
+     * Live read-only view of the equipped slots. Not locked: iterate it only from the
+     * thread that modifies this inventory (the game loop), otherwise use forEachEquipped.
+     */
+    public Map<EquipmentType, Equipment> equippedView() {
+        return Collections.unmodifiableMap(equipped);
+    }
+    
+    /**
+     * Live read-only view of the bag items of one type (same caveat as equippedView).
+     */
+    public Set<Equipment> bagView(EquipmentType type) {
+        return Collections.unmodifiableSet(bag.get(type));
+    }
+    
+    /**
+     * Live read-only view of the potion stacks (same caveat as equippedView).
+     */
+    public Collection<Potion> potionsView() {
+        return Collections.unmodifiableCollection(potions.values());
+    }
+    
+    public synchronized int getEquippedCount() { return equipped.size(); }
+    public synchronized int getPotionStackCount() { return potions.size(); }
+    
+    public synchronized int getCurrentSize() { return currentSize; }
+    public synchronized int getBagSize() { return bagSize; }
+    public int getCapacity() { return capacity; }
+
+    private boolean removeFromBag(Equipment item) {
+        if (bag.get(item.getType()).remove(item)) {
+            bagSize--;
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,85 @@
+package com.dungeonCrawler.benchmark;
+
+import com.dungeonCrawler.items.EquipmentType;
+import com.dungeonCrawler.items.LootTable;
+import com.dungeonCrawler.utils.AliasTable;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Loot rolls per microsecond: a whole chest drop from the floor table, and the alias
+ * method against a cumulative-weight scan as the number of outcomes grows.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LootTableBenchmark {
+
+    @Param({"8", "256"})
+    public int outcomes;
+
+    private SplittableRandom random;
+    private LootTable floorTable;
+    private AliasTable alias;
+    private double[] cumulative;
+
+    @Setup
+    public void setUp() {
+        random = new SplittableRandom(42);
+        floorTable = LootTable.forFloor(7);
+        double[] weights = new double[outcomes];
+        for (int i = 0; i < outcomes; i++) {
+            weights[i] = 1 + random.nextInt(10);
+        }
+        alias = new AliasTable(weights);
+        cumulative = new double[outcomes];
+        double total = 0;
+        for (int i = 0; i < outcomes; i++) {
+            total += weights[i];
+            cumulative[i] = total;
+        }
+    }
+
+    @Benchmark
+    public int chestDrop() {
+        switch (floorTable.rollChest(random)) {
+            case GOLD:
+                return floorTable.rollGold(random);
+            case EQUIPMENT:
+                EquipmentType type = floorTable.rollEquipmentType(random);
+                return type.ordinal();
+            default:
+                return floorTable.rollPotionType(random).ordinal() + floorTable.rollPotionQuantity(random);
+        }
+    }
+
+    @Benchmark
+    public int aliasSample() {
+        return alias.sample(random);
+    }
+
+    @Benchmark
+    public int linearScan() {
+        double u = random.nextDouble() * cumulative[cumulative.length - 1];
+        for (int i = 0; i < cumulative.length; i++) {
+            if (u < cumulative[i]) {
+                return i;
+            }
+        }
+        return cumulative.length - 1;
+    }
+}
@@ -0,0 +1,61 @@
+package com.dungeonCrawler.benchmark;
+
+import com.dungeonCrawler.characters.Vitals;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lock-free vs monitor vitals with many concurrent damage sources on one hero.
+ * Each operation damages and heals by the same amount so health stays in range.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class VitalsContentionBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class SharedVitals {
+        @Param({"ATOMIC", "MONITOR"})
+        Vitals.Kind kind;
+
+        Vitals vitals;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            vitals = kind.create(60000, 30000, 0);
+        }
+    }
+
+    @Benchmark
+    public int damageAndHeal(SharedVitals shared) {
+        shared.vitals.takeDamage(3);
+        return shared.vitals.heal(3);
+    }
+
+    @Benchmark
+    public int addGold(SharedVitals shared) {
+        return shared.vitals.addGold(1);
+    }
+
+    @Benchmark
+    public int readWhileFighting(SharedVitals shared) {
+        shared.vitals.takeDamage(1);
+        shared.vitals.heal(1);
+        return shared.vitals.getHealth() + shared.vitals.getMana();
+    }
+}
@@ -1,7 +1,12 @@
 package com.dungeonCrawler.boss;
 
+import com.dungeonCrawler.characters.CharacterSnapshot;
 import com.dungeonCrawler.characters.GameCharacter;
-import java.util.Random;
+import com.dungeonCrawler.utils.Banners;
+import com.dungeonCrawler.utils.BufferedConsoleSink;
+import com.dungeonCrawler.utils.OutputSink;
+import com.dungeonCrawler.utils.RandomStreams;
+import java.util.SplittableRandom;
 
 /**
  * Boss class for floor bosses and final antagonist.
@@ -15,8 +20,15 @@ public class Boss {
     private String story;
     private boolean defeated;
     private int floorNumber;
+    private OutputSink output;
+    private SplittableRandom random;
     
     public Boss(String name, String title, int health, int attackPower, String story, int floorNumber) {
+        this(name, title, health, attackPower, story, floorNumber, RandomStreams.global().split());
+    }
+    
+    public Boss(String name, String title, int health, int attackPower, String story, int floorNumber,
+                SplittableRandom random) {
         this.name = name;
         this.title = title;
         this.health = health;
@@ -25,17 +37,19 @@ public class Boss {
         this.story = story;
         this.defeated = false;
         this.floorNumber = floorNumber;
+        this.output = BufferedConsoleSink.stdout();
+        this.random = random;
     }
     
     /**
      * Boss entrance with dramatic narration.
      */
     public void entrance() {
-        System.out.println("\n" + "=".repeat(80));
-        System.out.println("*** " + title.toUpperCase() + " ***");
-        System.out.println("=".repeat(80));
-        System.out.println(story);
-        System.out.println("=".repeat(80) + "\n");
+        say("\n" + Banners.DOUBLE_LINE);
+        say("*** " + title.toUpperCase() + " ***");
+        say(Banners.DOUBLE_LINE);
+        say(story);
+        say(Banners.DOUBLE_LINE + "\n");
     }
     
     /**
@@ -44,7 +58,6 @@ public class Boss {
     public void battle(GameCharacter[] characters) {
         if (defeated) return;
         
-        Random random = new Random();
         boolean allDefeated = true;
         
         // Check if all characters are alive
@@ -56,25 +69,25 @@ public class Boss {
         }
         
         if (allDefeated) {
-            System.out.println("\n*** THE HEROES HAVE FALLEN ***\n");
+            say("\n*** THE HEROES HAVE FALLEN ***\n");
             defeated = true;
             return;
         }
         
         // Combat phase
-        System.out.println("\n[BOSS BATTLE] " + name + " attacks!");
+        say("\n[BOSS BATTLE] " + name + " attacks!");
         
         for (GameCharacter character : characters) {
             if (character.isCharacterAlive()) {
                 int heroDamage = random.nextInt(25) + 15;
                 health -= heroDamage;
                 
-                System.out.println("[HERO] " + character.getCharacterName() + " strikes for " + heroDamage + " damage!");
+                say("[HERO] " + character.getCharacterName() + " strikes for " + heroDamage + " damage!");
                 
                 if (health <= 0) {
                     health = 0;
                     defeated = true;
-                    System.out.println("\n*** " + name + " HAS BEEN DEFEATED! ***\n");
+                    say("\n*** " + name + " HAS BEEN DEFEATED! ***\n");
                     
                     // Reward heroes
                     for (GameCharacter c : characters) {
@@ -90,21 +103,29 @@ public class Boss {
                 // Boss counterattack
                 int bossDamage = random.nextInt(20) + 10;
                 character.takeDamage(bossDamage);
-                System.out.println("[BOSS] " + name + " counterattacks " + character.getCharacterName() + " for " + bossDamage + " damage!");
+                say("[BOSS] " + name + " counterattacks " + character.getCharacterName() + " for " + bossDamage + " damage!");
             }
         }
         
         // Display hero health and mana after round
-        System.out.println("\n--- Hero Status ---");
+        if (!output.isEnabled()) return;
+        say("\n--- Hero Status ---");
         for (GameCharacter character : characters) {
-            if (character.isCharacterAlive()) {
-                System.out.println(character.getCharacterName() + ": " + character.getHealth() + "/" + character.getMaxHealth() + 
-                                 " HP | " + character.getMana() + "/" + character.getMaxMana() + " Mana");
+            CharacterSnapshot status = character.snapshot();
+            if (status.isAlive()) {
+                say(status.vitalsLine());
             } else {
-                System.out.println(character.getCharacterName() + ": DEFEATED");
+                say(status.getCharacterName() + ": DEFEATED");
             }
         }
-        System.out.println(name + ": " + health + "/" + maxHealth + " HP\n");
+        say(name + ": " + health + "/" + maxHealth + " HP\n");
+    }
+    
+    /**
+     * Write a line of battle narration to the boss's output sink.
+     */
+    private void say(String line) {
+        output.println(line);
     }
     
     public String getName() { return name; }
@@ -113,4 +134,9 @@ public class Boss {
     public int getMaxHealth() { return maxHealth; }
     public boolean isDefeated() { return defeated; }
     public int getFloorNumber() { return floorNumber; }
+
+    /**
+     * Where narration goes; OutputSink.NULL silences the boss (headless runs).
+     */
+    public void setOutput(OutputSink output) { this.output = output; }
 }
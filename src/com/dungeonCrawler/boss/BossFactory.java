@@ -1,11 +1,18 @@
 package com.dungeonCrawler.boss;
 
+import com.dungeonCrawler.utils.RandomStreams;
+import java.util.SplittableRandom;
+
 /**
  * Factory for creating bosses at different difficulty levels.
  */
 public class BossFactory {
     
     public static Boss createFloorBoss(int floorNumber) {
+        return createFloorBoss(floorNumber, RandomStreams.global().split());
+    }
+    
+    public static Boss createFloorBoss(int floorNumber, SplittableRandom random) {
         switch(floorNumber) {
             case 5:
                 return new Boss(
@@ -15,7 +22,8 @@ public class BossFactory {
                     25,
                     "A massive creature of living stone blocks your path. Its eyes glow with ancient power!\n" +
                     "\"None shall pass beyond this point,\" it rumbles menacingly.",
-                    5
+                    5,
+                    random
                 );
             case 10:
                 return new Boss(
@@ -25,7 +33,8 @@ public class BossFactory {
                     35,
                     "Lightning crackles around a towering elemental form.\n" +
                     "\"I am the fury of nature! Your mortal forms are but dust before me!\"",
-                    10
+                    10,
+                    random
                 );
             default:
                 return null;
@@ -33,6 +42,10 @@ public class BossFactory {
     }
     
     public static Boss createFinalBoss() {
+        return createFinalBoss(RandomStreams.global().split());
+    }
+    
+    public static Boss createFinalBoss(SplittableRandom random) {
         return new Boss(
             "Malachar",
             "THE DARK LORD MALACHAR - FINAL ANTAGONIST",
@@ -44,7 +57,8 @@ public class BossFactory {
             "\"Did you think your pitiful blades and magic could harm one such as I?\"\n" +
             "\"I AM ETERNAL! I AM INEVITABLE!\"\n\n" +
             "Malachar raises his staff, and shadows surge around the chamber. The final battle begins!\n",
-            15
+            15,
+            random
         );
     }
 }
@@ -0,0 +1,148 @@
+package com.dungeonCrawler.characters;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free vitals. Health, max health, mana, max mana and the alive flag share one
+ * long, so every update is a single CAS and every read sees a consistent state:
+ *
+ *   bits  0-15  health        bits 32-47  mana
+ *   bits 16-31  max health    bits 48-62  max mana    bit 63  alive
+ *
+ * Values are clamped to their field width (65535, or 32767 for max mana).
+ */
+public class AtomicVitals implements Vitals {
+    private static final int SIXTEEN_BITS = 0xFFFF;
+    private static final int FIFTEEN_BITS = 0x7FFF;
+    private static final long ALIVE = 1L << 63;
+
+    private final AtomicLong state;
+    private final AtomicInteger gold;
+
+    public AtomicVitals(int maxHealth, int maxMana, int gold) {
+        this.state = new AtomicLong(pack(maxHealth, maxHealth, maxMana, maxMana, true));
+        this.gold = new AtomicInteger(gold);
+    }
+
+    @Override
+    public int heal(int amount) {
+        while (true) {
+            long current = state.get();
+            int health = Math.min(health(current) + amount, maxHealth(current));
+            if (state.compareAndSet(current, withHealth(current, health))) {
+                return health;
+            }
+        }
+    }
+
+    @Override
+    public int takeDamage(int amount) {
+        while (true) {
+            long current = state.get();
+            int health = health(current) - amount;
+            long next = withHealth(current, Math.max(health, 0));
+            if (health <= 0) {
+                next &= ~ALIVE;
+            }
+            if (state.compareAndSet(current, next)) {
+                return health;
+            }
+        }
+    }
+
+    @Override
+    public int restoreMana(int amount) {
+        while (true) {
+            long current = state.get();
+            int mana = Math.min(mana(current) + amount, maxMana(current));
+            if (state.compareAndSet(current, withMana(current, mana))) {
+                return mana;
+            }
+        }
+    }
+
+    @Override
+    public boolean deductMana(int amount) {
+        while (true) {
+            long current = state.get();
+            int mana = mana(current);
+            if (mana < amount) {
+                return false;
+            }
+            if (state.compareAndSet(current, withMana(current, mana - amount))) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public int addGold(int amount) {
+        return gold.addAndGet(amount);
+    }
+
+    @Override
+    public boolean spendGold(int amount) {
+        while (true) {
+            int current = gold.get();
+            if (current < amount) {
+                return false;
+            }
+            if (gold.compareAndSet(current, current - amount)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public void levelUp(int healthGain, int manaGain) {
+        while (true) {
+            long current = state.get();
+            int maxHealth = maxHealth(current) + healthGain;
+            int maxMana = maxMana(current) + manaGain;
+            long next = pack(maxHealth, maxHealth, maxMana, maxMana, (current & ALIVE) != 0);
+            if (state.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public Reading read() {
+        long current = state.get();
+        return new Reading(health(current), maxHealth(current), mana(current), maxMana(current),
+            (current & ALIVE) != 0, gold.get());
+    }
+
+    @Override public int getHealth() { return health(state.get()); }
+    @Override public int getMaxHealth() { return maxHealth(state.get()); }
+    @Override public int getMana() { return mana(state.get()); }
+    @Override public int getMaxMana() { return maxMana(state.get()); }
+    @Override public int getGold() { return gold.get(); }
+    @Override public boolean isAlive() { return (state.get() & ALIVE) != 0; }
+
+    private static long pack(int health, int maxHealth, int mana, int maxMana, boolean alive) {
+        return (clamp(health, SIXTEEN_BITS))
+            | ((long) clamp(maxHealth, SIXTEEN_BITS) << 16)
+            | ((long) clamp(mana, SIXTEEN_BITS) << 32)
+            | ((long) clamp(maxMana, FIFTEEN_BITS) << 48)
+            | (alive ? ALIVE : 0L);
+    }
+
+    private static long withHealth(long state, int health) {
+        return (state & ~(long) SIXTEEN_BITS) | clamp(health, SIXTEEN_BITS);
+    }
+
+    private static long withMana(long state, int mana) {
+        return (state & ~((long) SIXTEEN_BITS << 32)) | ((long) clamp(mana, SIXTEEN_BITS) << 32);
+    }
+
+    private static int clamp(int value, int max) {
+        return Math.max(0, Math.min(value, max));
+    }
+
+    private static int health(long state) { return (int) (state & SIXTEEN_BITS); }
+    private static int maxHealth(long state) { return (int) ((state >>> 16) & SIXTEEN_BITS); }
+    private static int mana(long state) { return (int) ((state >>> 32) & SIXTEEN_BITS); }
+    private static int maxMana(long state) { return (int) ((state >>> 48) & FIFTEEN_BITS); }
+}
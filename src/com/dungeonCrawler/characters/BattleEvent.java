@@ -0,0 +1,75 @@
+package com.dungeonCrawler.characters;
+
+/**
+ * A single structured entry in a character's battle log.
+ * Only the raw values are stored; the human-readable line is built on demand by format().
+ */
+public final class BattleEvent {
+    public enum Type {
+        HEAL, DAMAGE, DEFEATED, MANA, GOLD, EXPERIENCE, LEVEL_UP,
+        MESSAGE,   // free text written with the actor's name prefix
+        DIRECT     // free text written as-is (shared combat narration)
+    }
+
+    private final long sequence;
+    private final Type type;
+    private final String actor;
+    private final int amount;
+    private final int total;
+    private final int floor;
+    private final String text;
+
+    BattleEvent(long sequence, Type type, String actor, int amount, int total, int floor, String text) {
+        this.sequence = sequence;
+        this.type = type;
+        this.actor = actor;
+        this.amount = amount;
+        this.total = total;
+        this.floor = floor;
+        this.text = text;
+    }
+
+    /**
+     * Render the event as the log line the game has always shown.
+     */
+    public String format() {
+        switch (type) {
+            case HEAL:
+                return "[" + actor + "] " + actor + " healed for " + amount + " HP. Current health: " + total;
+            case DAMAGE:
+                return "[" + actor + "] " + actor + " took " + amount + " damage. Current health: " + total;
+            case DEFEATED:
+                return "[" + actor + "] " + actor + " has been defeated!";
+            case MANA:
+                return "[" + actor + "] " + actor + " restored " + amount + " mana. Current mana: " + total;
+            case GOLD:
+                return "[" + actor + "] " + actor + " gained " + amount + " gold. Total: " + total;
+            case EXPERIENCE:
+                return "[" + actor + "] " + actor + " gained " + amount + " experience.";
+            case LEVEL_UP:
+                return "[" + actor + "] " + actor + " leveled up to level " + amount + "!";
+            case MESSAGE:
+                return "[" + actor + "] " + text;
+            case DIRECT:
+            default:
+                return text;
+        }
+    }
+
+    long getSequence() { return sequence; }
+    public Type getType() { return type; }
+    public String getActor() { return actor; }
+    public int getAmount() { return amount; }
+
+    /**
+     * Resulting value after the event (current health, mana or gold), when relevant.
+     */
+    public int getTotal() { return total; }
+    public int getFloor() { return floor; }
+    public String getText() { return text; }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+}
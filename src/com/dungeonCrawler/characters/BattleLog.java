@@ -0,0 +1,123 @@
+package com.dungeonCrawler.characters;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free ring buffer of BattleEvents.
+ * Once full, the oldest events are overwritten, so memory stays constant however
+ * long a run lasts. Text is only produced when messages are read.
+ *
+ * Defaults can be set with -Ddungeon.battleLog.capacity=N and
+ * -Ddungeon.battleLog.text=false (headless runs: free-text messages are dropped
+ * and nothing is ever formatted; structured events are still recorded).
+ */
+public class BattleLog {
+    private static volatile int defaultCapacity = Integer.getInteger("dungeon.battleLog.capacity", 1024);
+    private static volatile boolean textRendering =
+        !"false".equalsIgnoreCase(System.getProperty("dungeon.battleLog.text"));
+
+    private final int capacity;
+    private final AtomicReferenceArray<BattleEvent> slots;
+    private final AtomicLong head;      // sequence number of the next event
+    private volatile long clearedAt;    // events before this sequence are hidden
+    private volatile int floor;
+
+    public BattleLog() {
+        this(defaultCapacity);
+    }
+
+    public BattleLog(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Battle log capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.head = new AtomicLong();
+        this.floor = 1;
+    }
+
+    /**
+     * Record a structured event; no string is built.
+     */
+    public void record(BattleEvent.Type type, String actor, int amount, int total) {
+        long seq = head.getAndIncrement();
+        slots.set((int) (seq % capacity), new BattleEvent(seq, type, actor, amount, total, floor, null));
+    }
+
+    /**
+     * Record a free-text message that will be shown with the actor's name prefix.
+     */
+    public void message(String actor, String text) {
+        if (!textRendering) return;
+        long seq = head.getAndIncrement();
+        slots.set((int) (seq % capacity), new BattleEvent(seq, BattleEvent.Type.MESSAGE, actor, 0, 0, floor, text));
+    }
+
+    /**
+     * Record a free-text message shown as-is.
+     */
+    public void direct(String text) {
+        if (!textRendering) return;
+        long seq = head.getAndIncrement();
+        slots.set((int) (seq % capacity), new BattleEvent(seq, BattleEvent.Type.DIRECT, null, 0, 0, floor, text));
+    }
+
+    /**
+     * Events currently held, oldest first.
+     */
+    public List<BattleEvent> getEvents() {
+        long end = head.get();
+        long start = Math.max(clearedAt, end - capacity);
+        List<BattleEvent> events = new ArrayList<>((int) (end - start));
+        for (long seq = start; seq < end; seq++) {
+            BattleEvent event = slots.get((int) (seq % capacity));
+            // skip slots still being written or already overwritten by a newer lap
+            if (event != null && event.getSequence() == seq) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Rendered log lines, oldest first (empty when text rendering is disabled).
+     */
+    public List<String> getMessages() {
+        if (!textRendering) {
+            return Collections.emptyList();
+        }
+        List<BattleEvent> events = getEvents();
+        List<String> lines = new ArrayList<>(events.size());
+        for (BattleEvent event : events) {
+            lines.add(event.format());
+        }
+        return lines;
+    }
+
+    public void clear() {
+        clearedAt = head.get();
+    }
+
+    public int size() {
+        long end = head.get();
+        return (int) (end - Math.max(clearedAt, end - capacity));
+    }
+
+    public boolean isEmpty() { return size() == 0; }
+    public int getCapacity() { return capacity; }
+    public int getFloor() { return floor; }
+
+    /**
+     * Floor stamped on subsequent events.
+     */
+    public void setFloor(int floor) { this.floor = floor; }
+
+    public static int getDefaultCapacity() { return defaultCapacity; }
+    public static void setDefaultCapacity(int capacity) { defaultCapacity = capacity; }
+    public static boolean isTextRendering() { return textRendering; }
+    public static void setTextRendering(boolean enabled) { textRendering = enabled; }
+}
@@ -0,0 +1,72 @@
+package com.dungeonCrawler.characters;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Runs a character's concurrent behaviour as tasks on a shared executor.
+ * Characters are plain objects; an actor gives one of them a mailbox so its actions
+ * run one at a time, in order, without the character owning a thread. Actors are
+ * cheap and only occupy an executor thread while they have work queued.
+ */
+public class CharacterActor {
+    private final GameCharacter character;
+    private final Executor executor;
+    private final Queue<Runnable> mailbox;
+    private final AtomicBoolean scheduled;
+
+    public CharacterActor(GameCharacter character, Executor executor) {
+        this.character = character;
+        this.executor = executor;
+        this.mailbox = new ConcurrentLinkedQueue<>();
+        this.scheduled = new AtomicBoolean();
+    }
+
+    /**
+     * Queue an action for the character. The returned future completes once it has run.
+     */
+    public CompletableFuture<Void> tell(Consumer<GameCharacter> action) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        mailbox.add(() -> {
+            try {
+                action.accept(character);
+                done.complete(null);
+            } catch (RuntimeException e) {
+                done.completeExceptionally(e);
+            }
+        });
+        schedule();
+        return done;
+    }
+
+    /**
+     * Queue the character's dungeon entrance.
+     */
+    public CompletableFuture<Void> enterDungeon() {
+        return tell(GameCharacter::enterDungeon);
+    }
+
+    public GameCharacter getCharacter() { return character; }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        Runnable task;
+        while ((task = mailbox.poll()) != null) {
+            task.run();
+        }
+        scheduled.set(false);
+        // a message may have arrived after the last poll but before the flag was cleared
+        if (!mailbox.isEmpty()) {
+            schedule();
+        }
+    }
+}
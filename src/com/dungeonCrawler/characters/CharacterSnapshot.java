@@ -0,0 +1,58 @@
+package com.dungeonCrawler.characters;
+
+/**
+ * Immutable, consistent view of a character's stats at one point in time.
+ * Obtained from GameCharacter.snapshot(); every value comes from the same moment,
+ * so a report never mixes pre- and post-level-up numbers.
+ */
+public final class CharacterSnapshot {
+    private final String name;
+    private final String characterClass;
+    private final boolean alive;
+    private final int level;
+    private final int experience;
+    private final int health;
+    private final int maxHealth;
+    private final int mana;
+    private final int maxMana;
+    private final int gold;
+    private final int battlesWon;
+    private final int itemsCollected;
+
+    CharacterSnapshot(String name, String characterClass, boolean alive, int level, int experience,
+                      int health, int maxHealth, int mana, int maxMana, int gold,
+                      int battlesWon, int itemsCollected) {
+        this.name = name;
+        this.characterClass = characterClass;
+        this.alive = alive;
+        this.level = level;
+        this.experience = experience;
+        this.health = health;
+        this.maxHealth = maxHealth;
+        this.mana = mana;
+        this.maxMana = maxMana;
+        this.gold = gold;
+        this.battlesWon = battlesWon;
+        this.itemsCollected = itemsCollected;
+    }
+
+    public String getCharacterName() { return name; }
+    public String getCharacterClass() { return characterClass; }
+    public boolean isAlive() { return alive; }
+    public int getLevel() { return level; }
+    public int getExperience() { return experience; }
+    public int getHealth() { return health; }
+    public int getMaxHealth() { return maxHealth; }
+    public int getMana() { return mana; }
+    public int getMaxMana() { return maxMana; }
+    public int getGold() { return gold; }
+    public int getBattlesWon() { return battlesWon; }
+    public int getItemsCollected() { return itemsCollected; }
+
+    /**
+     * One-line "HP | Mana" status as shown in combat.
+     */
+    public String vitalsLine() {
+        return name + ": " + health + "/" + maxHealth + " HP | " + mana + "/" + maxMana + " Mana";
+    }
+}
@@ -0,0 +1,35 @@
+package com.dungeonCrawler.characters;
+
+import com.dungeonCrawler.rooms.CombatJournal;
+import java.util.SplittableRandom;
+
+/**
+ * How a character attacks and defends in CombatRoom.
+ * Each hero class supplies its own strategy, so combat code makes one interface call
+ * instead of testing the hero's type, and adding a class never touches the combat room.
+ */
+public interface CombatStrategy {
+    /**
+     * Plain attack with no special moves and no dodge.
+     */
+    CombatStrategy BASIC = new CombatStrategy() {
+        @Override
+        public int attack(int baseDamage, SplittableRandom random, CombatJournal journal) {
+            return baseDamage;
+        }
+    };
+
+    /**
+     * Resolve this character's attack for the round and return the damage dealt.
+     * Narration goes to the encounter's journal.
+     */
+    int attack(int baseDamage, SplittableRandom random, CombatJournal journal);
+
+    /**
+     * Whether an incoming enemy attack misses this character. The enemy's stream is
+     * used so the roll belongs to the enemy's turn.
+     */
+    default boolean dodge(SplittableRandom enemyRandom, CombatJournal journal) {
+        return false;
+    }
+}
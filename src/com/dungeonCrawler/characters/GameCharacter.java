@@ -1,43 +1,57 @@
 package com.dungeonCrawler.characters;
 
 import com.dungeonCrawler.items.Inventory;
+import com.dungeonCrawler.rooms.CombatJournal;
 import com.dungeonCrawler.rooms.Room;
-import java.util.ArrayList;
-import java.util.List;
+import com.dungeonCrawler.utils.RandomStreams;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Abstract base class for all game characters.
  * Defines common attributes and abstract methods that all character subclasses must implement.
+ * Characters are plain entities; concurrent behaviour is run through a CharacterActor.
  */
-public abstract class GameCharacter extends Thread {
+public abstract class GameCharacter {
+    private static volatile Vitals.Kind defaultVitals =
+        Vitals.Kind.parse(System.getProperty("dungeon.vitals", "atomic"));
+    // One level-up in flight, in the progress word
+    private static final long LEVELING_ONE = 1L << 16;
+    
     protected String name;
-    protected int maxHealth;
-    protected int currentHealth;
-    protected int mana;
-    protected int maxMana;
-    protected int level;
-    protected int experience;
-    protected int gold;
+    // Health, mana, alive flag and gold; lock-free by default
+    protected final Vitals vitals;
+    // Level in the high 32 bits, level-ups still being applied to the vitals in bits 16-31,
+    // experience towards the next level in the low 16
+    private final AtomicLong progress;
     protected Inventory inventory;
-    protected List<String> battleLog;
-    protected int battlesWon;
-    protected int itemsCollected;
-    protected boolean isAlive;
+    protected BattleLog battleLog;
+    private final AtomicInteger battlesWon;
+    private final AtomicInteger itemsCollected;
+    // Hero-owned stream: only this hero's actions (and its combat attack task) draw from it
+    protected SplittableRandom random;
+    // Timed buffs/debuffs, expired one combat round at a time
+    protected final StatusEffectScheduler statusEffects = new StatusEffectScheduler();
+    // How this character attacks and defends in combat
+    private CombatStrategy combatStrategy;
+    // Journal of the encounter this character is (or was last) fighting in
+    private volatile CombatJournal combatJournal;
     
     public GameCharacter(String name, int maxHealth, int maxMana) {
+        this(name, maxHealth, maxMana, RandomStreams.global().split());
+    }
+    
+    public GameCharacter(String name, int maxHealth, int maxMana, SplittableRandom random) {
         this.name = name;
-        this.maxHealth = maxHealth;
-        this.currentHealth = maxHealth;
-        this.mana = maxMana;
-        this.maxMana = maxMana;
-        this.level = 1;
-        this.experience = 0;
-        this.gold = 100;
+        this.vitals = defaultVitals.create(maxHealth, maxMana, 100);
+        this.progress = new AtomicLong(packProgress(1, 0, 0));
         this.inventory = new Inventory();
-        this.battleLog = new ArrayList<>();
-        this.battlesWon = 0;
-        this.itemsCollected = 0;
-        this.isAlive = true;
+        this.battleLog = new BattleLog();
+        this.battlesWon = new AtomicInteger();
+        this.itemsCollected = new AtomicInteger();
+        this.random = random;
+        this.combatStrategy = CombatStrategy.BASIC;
     }
     
     /**
@@ -46,6 +60,11 @@ public abstract class GameCharacter extends Thread {
      */
     public abstract void act(Room room);
     
+    /**
+     * Called once when the character enters the dungeon.
+     */
+    public abstract void enterDungeon();
+    
     /**
      * Abstract method for unique ability usage.
      */
@@ -59,147 +78,191 @@ public abstract class GameCharacter extends Thread {
     /**
      * Heal the character, up to max health.
      */
-    public synchronized void heal(int amount) {
-        currentHealth = Math.min(currentHealth + amount, maxHealth);
-        addLog(name + " healed for " + amount + " HP. Current health: " + currentHealth);
+    public void heal(int amount) {
+        battleLog.record(BattleEvent.Type.HEAL, name, amount, vitals.heal(amount));
     }
     
     /**
      * Take damage and check if character is still alive.
      */
-    public synchronized void takeDamage(int amount) {
-        currentHealth -= amount;
-        addLog(name + " took " + amount + " damage. Current health: " + currentHealth);
-        if (currentHealth <= 0) {
-            currentHealth = 0;
-            isAlive = false;
-            addLog(name + " has been defeated!");
+    public void takeDamage(int amount) {
+        int health = vitals.takeDamage(amount);
+        battleLog.record(BattleEvent.Type.DAMAGE, name, amount, health);
+        if (health <= 0) {
+            battleLog.record(BattleEvent.Type.DEFEATED, name, 0, 0);
         }
     }
     
     /**
      * Restore mana.
      */
-    public synchronized void restoreMana(int amount) {
-        mana = Math.min(mana + amount, maxMana);
-        addLog(name + " restored " + amount + " mana. Current mana: " + mana);
+    public void restoreMana(int amount) {
+        battleLog.record(BattleEvent.Type.MANA, name, amount, vitals.restoreMana(amount));
     }
     
     /**
      * Deduct mana (used for abilities).
      */
-    public synchronized boolean deductMana(int amount) {
-        if (mana >= amount) {
-            mana -= amount;
-            return true;
-        }
-        return false;
+    public boolean deductMana(int amount) {
+        return vitals.deductMana(amount);
     }
     
     /**
      * Add to gold count.
      */
-    public synchronized void addGold(int amount) {
-        gold += amount;
-        addLog(name + " gained " + amount + " gold. Total: " + gold);
+    public void addGold(int amount) {
+        battleLog.record(BattleEvent.Type.GOLD, name, amount, vitals.addGold(amount));
     }
     
     /**
      * Add gold without logging (for combat rewards).
      */
-    public synchronized void addGoldSilent(int amount) {
-        gold += amount;
+    public void addGoldSilent(int amount) {
+        vitals.addGold(amount);
     }
     
     /**
      * Spend gold.
      */
-    public synchronized boolean spendGold(int amount) {
-        if (gold >= amount) {
-            gold -= amount;
-            return true;
-        }
-        return false;
+    public boolean spendGold(int amount) {
+        return vitals.spendGold(amount);
     }
     
     /**
      * Add experience and handle leveling up.
      */
-    public synchronized void addExperience(int amount) {
-        experience += amount;
-        addLog(name + " gained " + amount + " experience.");
+    public void addExperience(int amount) {
+        long before = gainExperience(amount);
+        int experience = progressExperience(before) + amount;
+        battleLog.record(BattleEvent.Type.EXPERIENCE, name, amount, experience);
         
         // Level up every 100 experience
-        while (experience >= 100) {
-            experience -= 100;
-            level++;
-            // Increase stats more per level: larger HP and Mana gains
-            maxHealth += 25; // previously 10
-            currentHealth = maxHealth;
-            maxMana += 10; // previously 5
-            mana = maxMana;
-            addLog(name + " leveled up to level " + level + "!");
+        int level = progressLevel(before);
+        for (int i = 0; i < experience / 100; i++) {
+            battleLog.record(BattleEvent.Type.LEVEL_UP, name, level + i + 1, level + i + 1);
         }
     }
     
     /**
      * Add experience without logging (for combat rewards).
      */
-    public synchronized void addExperienceSilent(int amount) {
-        experience += amount;
-        
-        // Level up every 100 experience
-        while (experience >= 100) {
-            experience -= 100;
-            level++;
-            // Silent level-up with larger gains
-            maxHealth += 25;
-            currentHealth = maxHealth;
-            maxMana += 10;
-            mana = maxMana;
+    public void addExperienceSilent(int amount) {
+        gainExperience(amount);
+    }
+    
+    /**
+     * Add experience with one CAS, converting every 100 points into a level, then apply
+     * the stat gains (larger HP and Mana gains per level). Returns the previous progress.
+     * A level-up is marked in flight by the same CAS and cleared once the vitals have
+     * their gains, so snapshots see level and stats change together.
+     */
+    private long gainExperience(int amount) {
+        while (true) {
+            long current = progress.get();
+            int experience = progressExperience(current) + amount;
+            int levels = experience / 100;
+            int leveling = progressLeveling(current) + (levels > 0 ? 1 : 0);
+            long next = packProgress(progressLevel(current) + levels, experience % 100, leveling);
+            if (progress.compareAndSet(current, next)) {
+                if (levels > 0) {
+                    vitals.levelUp(25 * levels, 10 * levels);
+                    progress.addAndGet(-LEVELING_ONE);
+                }
+                return current;
+            }
         }
     }
     
+    private static long packProgress(int level, int experience, int leveling) {
+        return ((long) level << 32) | ((long) leveling << 16) | experience;
+    }
+    
+    private static int progressLevel(long progress) { return (int) (progress >>> 32); }
+    private static int progressLeveling(long progress) { return (int) (progress >>> 16) & 0xFFFF; }
+    private static int progressExperience(long progress) { return (int) progress & 0xFFFF; }
+    
     /**
      * Log events to the character's battle log.
      */
-    public synchronized void addLog(String message) {
-        battleLog.add("[" + name + "] " + message);
+    public void addLog(String message) {
+        battleLog.message(name, message);
     }
     
     /**
      * Log events without adding the character name prefix (for unified combat logs).
      */
-    public synchronized void addLogDirect(String message) {
-        battleLog.add(message);
+    public void addLogDirect(String message) {
+        battleLog.direct(message);
     }
     
     /**
      * Record a battle victory.
      */
-    public synchronized void winBattle() {
-        battlesWon++;
+    public void winBattle() {
+        battlesWon.incrementAndGet();
     }
     
     /**
      * Record item collection.
      */
-    public synchronized void collectItem() {
-        itemsCollected++;
+    public void collectItem() {
+        itemsCollected.incrementAndGet();
+    }
+    
+    /**
+     * Consistent view of all stats, taken without blocking writers, who pay nothing for it.
+     * HP, mana and the alive flag come from one read of the vitals; level and experience
+     * from the progress word, which never returns to an earlier value. The read is kept if
+     * progress, gold and the win/item counters did not move around it and no level-up was
+     * half applied, and is retried otherwise.
+     */
+    public CharacterSnapshot snapshot() {
+        while (true) {
+            long before = progress.get();
+            int battles = battlesWon.get();
+            int items = itemsCollected.get();
+            if (progressLeveling(before) == 0) {
+                Vitals.Reading current = vitals.read();
+                if (progress.get() == before && battlesWon.get() == battles && itemsCollected.get() == items
+                        && vitals.getGold() == current.getGold()) {
+                    return new CharacterSnapshot(name, getCharacterClass(), current.isAlive(),
+                        progressLevel(before), progressExperience(before),
+                        current.getHealth(), current.getMaxHealth(), current.getMana(), current.getMaxMana(),
+                        current.getGold(), battles, items);
+                }
+            }
+            Thread.onSpinWait();
+        }
     }
     
     // Getters
     public String getCharacterName() { return name; }
-    public int getHealth() { return currentHealth; }
-    public int getMaxHealth() { return maxHealth; }
-    public int getMana() { return mana; }
-    public int getMaxMana() { return maxMana; }
-    public int getLevel() { return level; }
-    public int getExperience() { return experience; }
-    public int getGold() { return gold; }
+    public int getHealth() { return vitals.getHealth(); }
+    public int getMaxHealth() { return vitals.getMaxHealth(); }
+    public int getMana() { return vitals.getMana(); }
+    public int getMaxMana() { return vitals.getMaxMana(); }
+    public int getLevel() { return progressLevel(progress.get()); }
+    public int getExperience() { return progressExperience(progress.get()); }
+    public int getGold() { return vitals.getGold(); }
     public Inventory getInventory() { return inventory; }
-    public List<String> getBattleLog() { return battleLog; }
-    public int getBattlesWon() { return battlesWon; }
-    public int getItemsCollected() { return itemsCollected; }
-    public boolean isCharacterAlive() { return isAlive; }
+    public BattleLog getBattleLog() { return battleLog; }
+    public int getBattlesWon() { return battlesWon.get(); }
+    public int getItemsCollected() { return itemsCollected.get(); }
+    public boolean isCharacterAlive() { return vitals.isAlive(); }
+    public SplittableRandom getRandom() { return random; }
+    public StatusEffectScheduler getStatusEffects() { return statusEffects; }
+    public CombatStrategy getCombatStrategy() { return combatStrategy; }
+    
+    /**
+     * Replace how this character fights (subclasses set theirs in the constructor).
+     */
+    public void setCombatStrategy(CombatStrategy strategy) { this.combatStrategy = strategy; }
+    public CombatJournal getCombatJournal() { return combatJournal; }
+    public void setCombatJournal(CombatJournal journal) { this.combatJournal = journal; }
+    
+    /**
+     * Vitals implementation used by characters created from now on.
+     */
+    public static Vitals.Kind getDefaultVitals() { return defaultVitals; }
+    public static void setDefaultVitals(Vitals.Kind kind) { defaultVitals = kind; }
 }
@@ -0,0 +1,253 @@
+package com.dungeonCrawler.characters;
+
+import com.dungeonCrawler.items.Equipment;
+import com.dungeonCrawler.items.EquipmentStats;
+import com.dungeonCrawler.items.EquipmentType;
+import com.dungeonCrawler.items.Inventory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Party-wide auto-equip: gives every living hero the best item for each equipment slot
+ * out of all equipment the party carries (bags and equipped slots).
+ *
+ * Slots of different types never compete, so each EquipmentType is an independent
+ * assignment problem (heroes x items), solved exactly with the Hungarian algorithm in
+ * O(heroes^2 * items). An item is scored by its EquipmentStats weighted by what the
+ * hero's class makes best use of; the item a hero already wears wins ties, so
+ * re-running on an optimal party moves nothing.
+ *
+ * Call from the thread that drives the party (the game loop).
+ */
+public final class GearOptimizer {
+    // weights for attack, defence and dodge per class
+    private static final int[] KNIGHT_WEIGHTS = {2, 3, 1};
+    private static final int[] THIEF_WEIGHTS = {2, 1, 3};
+    private static final int[] WIZARD_WEIGHTS = {3, 2, 1};
+    private static final int[] DEFAULT_WEIGHTS = {1, 1, 1};
+
+    private GearOptimizer() {
+    }
+
+    /**
+     * Re-equip the party with the best assignment. Returns the number of slots changed.
+     */
+    public static int optimize(GameCharacter[] party) {
+        GameCharacter[] heroes = livingHeroes(party);
+        int changed = 0;
+        for (EquipmentType type : EquipmentType.values()) {
+            Equipment[] best = assign(type, heroes, party);
+            if (best != null) {
+                changed += apply(type, heroes, party, best);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Number of slots optimize() would change, without changing anything.
+     */
+    public static int countChanges(GameCharacter[] party) {
+        GameCharacter[] heroes = livingHeroes(party);
+        int changes = 0;
+        for (EquipmentType type : EquipmentType.values()) {
+            Equipment[] best = assign(type, heroes, party);
+            if (best == null) continue;
+            for (int h = 0; h < heroes.length; h++) {
+                if (best[h] != heroes[h].getInventory().getEquipped(type)) {
+                    changes++;
+                }
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Best item of the given type for each living hero (null = leave the slot empty),
+     * or null when the party carries no item of that type.
+     */
+    private static Equipment[] assign(EquipmentType type, GameCharacter[] heroes, GameCharacter[] party) {
+        List<Equipment> items = new ArrayList<>();
+        for (GameCharacter owner : party) {
+            Inventory inventory = owner.getInventory();
+            Equipment worn = inventory.getEquipped(type);
+            if (worn != null) {
+                items.add(worn);
+            }
+            inventory.forEachBagItem(type, items::add);
+        }
+        if (items.isEmpty() || heroes.length == 0) {
+            return null;
+        }
+
+        // one column per item plus one "nothing" column per hero, so every hero gets a column
+        int rows = heroes.length;
+        int cols = items.size() + rows;
+        int[][] cost = new int[rows][cols];
+        for (int h = 0; h < rows; h++) {
+            int[] weights = weightsFor(heroes[h]);
+            Equipment worn = heroes[h].getInventory().getEquipped(type);
+            for (int i = 0; i < items.size(); i++) {
+                Equipment item = items.get(i);
+                cost[h][i] = -(score(item, weights) * 2 + (item == worn ? 1 : 0));
+            }
+        }
+
+        int[] columns = hungarian(cost);
+        Equipment[] best = new Equipment[rows];
+        for (int h = 0; h < rows; h++) {
+            best[h] = columns[h] < items.size() ? items.get(columns[h]) : null;
+        }
+        return best;
+    }
+
+    /**
+     * Move items so each hero wears its assigned item. Returns the number of slots changed.
+     */
+    private static int apply(EquipmentType type, GameCharacter[] heroes, GameCharacter[] party, Equipment[] best) {
+        Equipment[] before = new Equipment[heroes.length];
+        for (int h = 0; h < heroes.length; h++) {
+            before[h] = heroes[h].getInventory().getEquipped(type);
+        }
+
+        // first put every item that changes hands back into its wearer's bag (an item
+        // whose wearer has a full bag stays equipped)...
+        for (int h = 0; h < heroes.length; h++) {
+            if (before[h] != null && before[h] != best[h]) {
+                heroes[h].getInventory().unequip(type);
+            }
+        }
+        for (GameCharacter owner : party) {
+            if (owner.isCharacterAlive()) continue;
+            Equipment worn = owner.getInventory().getEquipped(type);
+            if (worn != null && Arrays.asList(best).contains(worn)) {
+                owner.getInventory().unequip(type);
+            }
+        }
+
+        // ...then move each assigned item from whichever bag holds it and equip it
+        for (int h = 0; h < heroes.length; h++) {
+            Equipment item = best[h];
+            Inventory target = heroes[h].getInventory();
+            if (item == null || target.getEquipped(type) == item) continue;
+            GameCharacter owner = bagOwner(item, party);
+            if (owner == null) continue;
+            if (owner != heroes[h]) {
+                owner.getInventory().removeEquipmentInstance(item);
+                if (!target.addEquipment(item)) {
+                    owner.getInventory().addEquipment(item); // target bag full: leave it where it was
+                    continue;
+                }
+            }
+            Equipment previous = target.equipEquipment(item);
+            if (previous != null) {
+                // still worn because the bag was full; the item just equipped freed a bag slot
+                target.addEquipment(previous);
+            }
+        }
+
+        int changed = 0;
+        for (int h = 0; h < heroes.length; h++) {
+            if (heroes[h].getInventory().getEquipped(type) != before[h]) {
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    private static GameCharacter bagOwner(Equipment item, GameCharacter[] party) {
+        for (GameCharacter c : party) {
+            if (c.getInventory().bagContains(item)) {
+                return c;
+            }
+        }
+        return null;
+    }
+
+    private static int score(Equipment item, int[] weights) {
+        EquipmentStats stats = EquipmentStats.of(item);
+        int weighted = stats.getAttack() * weights[0] + stats.getDefence() * weights[1] + stats.getDodge() * weights[2];
+        // level breaks ties between items whose bonuses round to the same value
+        return weighted * 100 + item.getLevel();
+    }
+
+    private static int[] weightsFor(GameCharacter hero) {
+        switch (hero.getCharacterClass()) {
+            case "Knight":
+                return KNIGHT_WEIGHTS;
+            case "Thief":
+                return THIEF_WEIGHTS;
+            case "Wizard":
+                return WIZARD_WEIGHTS;
+            default:
+                return DEFAULT_WEIGHTS;
+        }
+    }
+
+    private static GameCharacter[] livingHeroes(GameCharacter[] party) {
+        return Arrays.stream(party).filter(GameCharacter::isCharacterAlive).toArray(GameCharacter[]::new);
+    }
+
+    /**
+     * Minimum-cost assignment of every row to a distinct column (rows <= columns),
+     * using row and column potentials. Returns the column chosen for each row.
+     */
+    static int[] hungarian(int[][] cost) {
+        int n = cost.length;
+        int m = cost[0].length;
+        long[] u = new long[n + 1];
+        long[] v = new long[m + 1];
+        int[] match = new int[m + 1];  // row (1-based) matched to each column, 0 = free
+        int[] way = new int[m + 1];
+        long[] minv = new long[m + 1];
+        boolean[] used = new boolean[m + 1];
+
+        for (int i = 1; i <= n; i++) {
+            match[0] = i;
+            int j0 = 0;
+            Arrays.fill(minv, Long.MAX_VALUE);
+            Arrays.fill(used, false);
+            do {
+                used[j0] = true;
+                int i0 = match[j0];
+                long delta = Long.MAX_VALUE;
+                int j1 = 0;
+                for (int j = 1; j <= m; j++) {
+                    if (used[j]) continue;
+                    long cur = cost[i0 - 1][j - 1] - u[i0] - v[j];
+                    if (cur < minv[j]) {
+                        minv[j] = cur;
+                        way[j] = j0;
+                    }
+                    if (minv[j] < delta) {
+                        delta = minv[j];
+                        j1 = j;
+                    }
+                }
+                for (int j = 0; j <= m; j++) {
+                    if (used[j]) {
+                        u[match[j]] += delta;
+                        v[j] -= delta;
+                    } else {
+                        minv[j] -= delta;
+                    }
+                }
+                j0 = j1;
+            } while (match[j0] != 0);
+            do {
+                int j1 = way[j0];
+                match[j0] = match[j1];
+                j0 = j1;
+            } while (j0 != 0);
+        }
+
+        int[] columns = new int[n];
+        for (int j = 1; j <= m; j++) {
+            if (match[j] != 0) {
+                columns[match[j] - 1] = j - 1;
+            }
+        }
+        return columns;
+    }
+}
@@ -3,22 +3,25 @@ package com.dungeonCrawler.characters;
 import com.dungeonCrawler.rooms.Room;
 import com.dungeonCrawler.items.Equipment;
 import com.dungeonCrawler.items.EquipmentType;
-import java.util.Random;
+import com.dungeonCrawler.utils.RandomStreams;
+import java.util.SplittableRandom;
 
 /**
  * Knight class - Strong melee fighter with focus on defense and heavy hits.
  */
 public class Knight extends GameCharacter {
-    private Random random;
     private int armor;
     private int weaponDamage;
     
     public Knight(String name) {
-        super(name, 200, 50);
-        this.random = new Random();
+        this(name, RandomStreams.global().split());
+    }
+    
+    public Knight(String name, SplittableRandom random) {
+        super(name, 200, 50, random);
         this.armor = 20;
         this.weaponDamage = 25;
-        this.setName(name);
+        setCombatStrategy(new KnightCombat(this));
     }
     
     @Override
@@ -29,8 +32,7 @@ public class Knight extends GameCharacter {
     @Override
     public void act(Room room) {
         // Knight explores the room with combat prowess
-        Random rand = new Random();
-        int action = rand.nextInt(3);
+        int action = random.nextInt(3);
         
         switch(action) {
             case 0:
@@ -47,24 +49,18 @@ public class Knight extends GameCharacter {
     
     @Override
     public void useAbility() {
-        if (mana >= 30) {
-            mana -= 30;
+        if (deductMana(30)) {
             addLog(name + " uses SHIELD BASH! Blocks incoming damage and stuns enemies!");
             addLog(name + " increased armor by 15 temporarily.");
             armor += 15;
             
-            // Reduce armor after time
-            new Thread(() -> {
-                try {
-                    Thread.sleep(3000);
-                    synchronized(this) {
-                        armor -= 15;
-                        addLog(name + "'s shield bash effect wears off.");
-                    }
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
+            // Reduce armor after three rounds
+            statusEffects.schedule("Shield Bash", 3, () -> {
+                synchronized(this) {
+                    armor -= 15;
                 }
-            }).start();
+                addLog(name + "'s shield bash effect wears off.");
+            });
         } else {
             addLog(name + " doesn't have enough mana for Shield Bash! (Requires 30 mana)");
         }
@@ -84,25 +80,21 @@ public class Knight extends GameCharacter {
      * Knight's unique ability: Defensive Stance
      */
     public void defensiveStance() {
-        armor += 10;
-        addLog(name + " takes a DEFENSIVE STANCE! Armor increased by 10.");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
+        synchronized(this) {
+            armor += 10;
         }
-        armor -= 10;
-        addLog(name + "'s defensive stance ends.");
+        addLog(name + " takes a DEFENSIVE STANCE! Armor increased by 10.");
+        statusEffects.schedule("Defensive Stance", 2, () -> {
+            synchronized(this) {
+                armor -= 10;
+            }
+            addLog(name + "'s defensive stance ends.");
+        });
     }
     
     @Override
-    public void run() {
+    public void enterDungeon() {
         addLog(name + " the Knight enters the dungeon, ready for battle!");
-        try {
-            Thread.sleep(500 + random.nextInt(500));
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
     }
     
     public int getArmor() { return armor; }
@@ -0,0 +1,31 @@
+package com.dungeonCrawler.characters;
+
+import com.dungeonCrawler.rooms.CombatJournal;
+import java.util.SplittableRandom;
+
+/**
+ * Knight combat: sometimes trades attack power for a shield spell.
+ */
+final class KnightCombat implements CombatStrategy {
+    private final Knight knight;
+
+    KnightCombat(Knight knight) {
+        this.knight = knight;
+    }
+
+    @Override
+    public int attack(int baseDamage, SplittableRandom random, CombatJournal journal) {
+        if (random.nextInt(100) < 30) {
+            if (knight.getMana() >= 25) {
+                knight.deductMana(25);
+                journal.append("  🛡️  Knight casts SHIELD SPELL (-25 mana)");
+                journal.append("  (Defense increased this round - reduced incoming damage)");
+                journal.append("  (Reduced attack power this turn)");
+                return baseDamage / 2;
+            }
+        }
+
+        journal.append("  🗡️  Knight performs a strong attack for " + baseDamage + " damage!");
+        return baseDamage;
+    }
+}
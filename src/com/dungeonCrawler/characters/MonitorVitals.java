@@ -0,0 +1,89 @@
+package com.dungeonCrawler.characters;
+
+/**
+ * Vitals guarded by this object's monitor, as GameCharacter originally did.
+ * Kept as the baseline for the lock-free AtomicVitals.
+ */
+public class MonitorVitals implements Vitals {
+    private int health;
+    private int maxHealth;
+    private int mana;
+    private int maxMana;
+    private int gold;
+    private boolean alive;
+
+    public MonitorVitals(int maxHealth, int maxMana, int gold) {
+        this.health = maxHealth;
+        this.maxHealth = maxHealth;
+        this.mana = maxMana;
+        this.maxMana = maxMana;
+        this.gold = gold;
+        this.alive = true;
+    }
+
+    @Override
+    public synchronized int heal(int amount) {
+        health = Math.min(health + amount, maxHealth);
+        return health;
+    }
+
+    @Override
+    public synchronized int takeDamage(int amount) {
+        int result = health - amount;
+        health = Math.max(result, 0);
+        if (result <= 0) {
+            alive = false;
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized int restoreMana(int amount) {
+        mana = Math.min(mana + amount, maxMana);
+        return mana;
+    }
+
+    @Override
+    public synchronized boolean deductMana(int amount) {
+        if (mana >= amount) {
+            mana -= amount;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public synchronized int addGold(int amount) {
+        gold += amount;
+        return gold;
+    }
+
+    @Override
+    public synchronized boolean spendGold(int amount) {
+        if (gold >= amount) {
+            gold -= amount;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public synchronized void levelUp(int healthGain, int manaGain) {
+        maxHealth += healthGain;
+        health = maxHealth;
+        maxMana += manaGain;
+        mana = maxMana;
+    }
+
+    @Override
+    public synchronized Reading read() {
+        return new Reading(health, maxHealth, mana, maxMana, alive, gold);
+    }
+
+    @Override public synchronized int getHealth() { return health; }
+    @Override public synchronized int getMaxHealth() { return maxHealth; }
+    @Override public synchronized int getMana() { return mana; }
+    @Override public synchronized int getMaxMana() { return maxMana; }
+    @Override public synchronized int getGold() { return gold; }
+    @Override public synchronized boolean isAlive() { return alive; }
+}
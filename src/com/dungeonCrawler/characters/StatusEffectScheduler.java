@@ -0,0 +1,116 @@
+package com.dungeonCrawler.characters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Tracks timed buffs and debuffs in game ticks (one tick = one combat round).
+ * Abilities apply their effect immediately and schedule its reversal here instead of
+ * starting a thread that sleeps. Expirations are kept in a priority queue ordered by
+ * expiry tick, then by scheduling order, and every effect due on a tick is removed in
+ * one pass, so the result is the same however the game is scheduled.
+ */
+public class StatusEffectScheduler {
+    private final PriorityQueue<Expiration> queue;
+    private long currentTick;
+    private long nextSequence;
+
+    public StatusEffectScheduler() {
+        this.queue = new PriorityQueue<>();
+        this.currentTick = 0;
+        this.nextSequence = 0;
+    }
+
+    /**
+     * Run onExpire after the given number of ticks (at least one).
+     */
+    public synchronized void schedule(String effect, int ticks, Runnable onExpire) {
+        if (ticks <= 0) {
+            throw new IllegalArgumentException("Effect duration must be positive: " + ticks);
+        }
+        queue.add(new Expiration(effect, currentTick + ticks, nextSequence++, onExpire));
+    }
+
+    /**
+     * Advance one tick and expire every effect that is now due.
+     */
+    public void tick() {
+        advance(1);
+    }
+
+    /**
+     * Advance several ticks at once, expiring everything due in between.
+     * Returns the number of effects that expired.
+     */
+    public int advance(int ticks) {
+        List<Expiration> due;
+        synchronized (this) {
+            currentTick += ticks;
+            if (queue.isEmpty() || queue.peek().tick > currentTick) {
+                return 0;
+            }
+            due = new ArrayList<>();
+            while (!queue.isEmpty() && queue.peek().tick <= currentTick) {
+                due.add(queue.poll());
+            }
+        }
+        // callbacks run outside the lock: they take the character's own lock
+        for (Expiration expiration : due) {
+            expiration.onExpire.run();
+        }
+        return due.size();
+    }
+
+    /**
+     * Expire every pending effect now (e.g. when an encounter ends early).
+     */
+    public int expireAll() {
+        List<Expiration> due;
+        synchronized (this) {
+            due = new ArrayList<>(queue.size());
+            while (!queue.isEmpty()) {
+                due.add(queue.poll());
+            }
+        }
+        for (Expiration expiration : due) {
+            expiration.onExpire.run();
+        }
+        return due.size();
+    }
+
+    /**
+     * Whether an effect with the given name is still pending.
+     */
+    public synchronized boolean isActive(String effect) {
+        for (Expiration expiration : queue) {
+            if (expiration.effect.equals(effect)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public synchronized int getActiveCount() { return queue.size(); }
+    public synchronized long getCurrentTick() { return currentTick; }
+
+    private static final class Expiration implements Comparable<Expiration> {
+        final String effect;
+        final long tick;
+        final long sequence;
+        final Runnable onExpire;
+
+        Expiration(String effect, long tick, long sequence, Runnable onExpire) {
+            this.effect = effect;
+            this.tick = tick;
+            this.sequence = sequence;
+            this.onExpire = onExpire;
+        }
+
+        @Override
+        public int compareTo(Expiration other) {
+            int byTick = Long.compare(tick, other.tick);
+            return byTick != 0 ? byTick : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -1,24 +1,27 @@
 package com.dungeonCrawler.characters;
 
 import com.dungeonCrawler.rooms.Room;
-import java.util.Random;
+import com.dungeonCrawler.utils.RandomStreams;
+import java.util.SplittableRandom;
 
 /**
  * Thief class - Fast and agile, focuses on evasion and critical strikes.
  */
 public class Thief extends GameCharacter {
-    private Random random;
     private int agility;
     private int movement;  // Dodge chance stat (0-100)
     private int criticalChance;
     
     public Thief(String name) {
-        super(name, 120, 80);
-        this.random = new Random();
+        this(name, RandomStreams.global().split());
+    }
+    
+    public Thief(String name, SplittableRandom random) {
+        super(name, 120, 80, random);
         this.agility = 35;
         this.movement = 45;  // 45% base dodge chance
         this.criticalChance = 25; // 25% base critical chance
-        this.setName(name);
+        setCombatStrategy(new ThiefCombat(this));
     }
     
     @Override
@@ -29,8 +32,7 @@ public class Thief extends GameCharacter {
     @Override
     public void act(Room room) {
         // Thief explores the room with stealth and precision
-        Random rand = new Random();
-        int action = rand.nextInt(3);
+        int action = random.nextInt(3);
         
         switch(action) {
             case 0:
@@ -47,24 +49,18 @@ public class Thief extends GameCharacter {
     
     @Override
     public void useAbility() {
-        if (mana >= 25) {
-            mana -= 25;
+        if (deductMana(25)) {
             addLog(name + " uses SHADOW CLONE! Evades next attack and moves behind enemy!");
             addLog(name + "'s agility increased by 20.");
             agility += 20;
             
-            // Reduce agility after effect wears off
-            new Thread(() -> {
-                try {
-                    Thread.sleep(2500);
-                    synchronized(this) {
-                        agility -= 20;
-                        addLog(name + "'s shadow clone fades away.");
-                    }
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
+            // Reduce agility after three rounds
+            statusEffects.schedule("Shadow Clone", 3, () -> {
+                synchronized(this) {
+                    agility -= 20;
                 }
-            }).start();
+                addLog(name + "'s shadow clone fades away.");
+            });
         } else {
             addLog(name + " doesn't have enough mana for Shadow Clone! (Requires 25 mana)");
         }
@@ -90,7 +86,7 @@ public class Thief extends GameCharacter {
      */
     public void pickpocket() {
         int gold = random.nextInt(50) + 25;
-        this.gold += gold;
+        addGoldSilent(gold);
         addLog(name + " uses pickpocket and gains " + gold + " gold!");
     }
     
@@ -99,21 +95,12 @@ public class Thief extends GameCharacter {
      */
     public void evasion() {
         addLog(name + " takes an evasive stance! Dodge chance increased!");
-        try {
-            Thread.sleep(1500);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
+        statusEffects.schedule("Evasion", 2, () -> addLog(name + "'s evasive stance ends."));
     }
     
     @Override
-    public void run() {
+    public void enterDungeon() {
         addLog(name + " the Thief enters the dungeon, moving silently...");
-        try {
-            Thread.sleep(500 + random.nextInt(500));
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
     }
     
     public int getAgility() { return agility; }
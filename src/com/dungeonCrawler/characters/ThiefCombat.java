@@ -0,0 +1,49 @@
+package com.dungeonCrawler.characters;
+
+import com.dungeonCrawler.rooms.CombatJournal;
+import java.util.SplittableRandom;
+
+/**
+ * Thief combat: steals gold or lands critical strikes, and can dodge enemy attacks.
+ */
+final class ThiefCombat implements CombatStrategy {
+    private final Thief thief;
+
+    ThiefCombat(Thief thief) {
+        this.thief = thief;
+    }
+
+    @Override
+    public int attack(int baseDamage, SplittableRandom random, CombatJournal journal) {
+        int dodgeChance = thief.getMovement();
+
+        if (random.nextInt(100) < 20) {
+            if (thief.getMana() >= 15) {
+                thief.deductMana(15);
+                int goldStolen = random.nextInt(20) + 10;
+                journal.append("  💰 Thief uses STEAL GOLD (-15 mana) and steals " + goldStolen + " gold!");
+                journal.append("  (Base attack reduced this turn)");
+                return baseDamage / 2;
+            }
+        }
+
+        if (random.nextInt(100) < thief.getCriticalChance()) {
+            int critDamage = baseDamage * 2;
+            journal.append("  ⚡ CRITICAL STRIKE for " + critDamage + " damage!");
+            return critDamage;
+        }
+
+        journal.append("  🗡️  Thief strikes with " + baseDamage + " damage (Dodge: " + dodgeChance + "%)");
+        return baseDamage;
+    }
+
+    @Override
+    public boolean dodge(SplittableRandom enemyRandom, CombatJournal journal) {
+        int dodgeChance = thief.getMovement();
+        if (enemyRandom.nextInt(100) < dodgeChance) {
+            journal.append("  ✨ " + thief.getCharacterName() + " DODGES the attack! (Dodge: " + dodgeChance + "%)");
+            return true;
+        }
+        return false;
+    }
+}
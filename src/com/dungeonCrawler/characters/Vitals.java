@@ -0,0 +1,101 @@
+package com.dungeonCrawler.characters;
+
+/**
+ * Health, mana, alive flag and gold of a character.
+ * Every operation is atomic. Two implementations are provided for comparison:
+ *  - ATOMIC: lock-free, CAS on one packed long for HP/mana/alive and an atomic gold counter
+ *  - MONITOR: plain fields guarded by the object's monitor (the original behaviour)
+ * The default is chosen with -Ddungeon.vitals=atomic|monitor (default: atomic).
+ */
+public interface Vitals {
+    enum Kind {
+        ATOMIC, MONITOR;
+
+        public Vitals create(int maxHealth, int maxMana, int gold) {
+            return this == MONITOR
+                ? new MonitorVitals(maxHealth, maxMana, gold)
+                : new AtomicVitals(maxHealth, maxMana, gold);
+        }
+
+        static Kind parse(String value) {
+            return "monitor".equalsIgnoreCase(value.trim()) ? MONITOR : ATOMIC;
+        }
+    }
+
+    /**
+     * Heal up to max health; returns the new health.
+     */
+    int heal(int amount);
+
+    /**
+     * Subtract health; returns health before clamping to zero. A result of zero or
+     * less means the character is (now) defeated.
+     */
+    int takeDamage(int amount);
+
+    /**
+     * Restore mana up to max mana; returns the new mana.
+     */
+    int restoreMana(int amount);
+
+    /**
+     * Deduct mana if enough is available.
+     */
+    boolean deductMana(int amount);
+
+    /**
+     * Add gold; returns the new total.
+     */
+    int addGold(int amount);
+
+    /**
+     * Spend gold if enough is available.
+     */
+    boolean spendGold(int amount);
+
+    /**
+     * Raise max health and max mana and fully restore both.
+     */
+    void levelUp(int healthGain, int manaGain);
+
+    /**
+     * Health, max health, mana, max mana and the alive flag as they were at one instant,
+     * plus gold.
+     */
+    Reading read();
+
+    int getHealth();
+    int getMaxHealth();
+    int getMana();
+    int getMaxMana();
+    int getGold();
+    boolean isAlive();
+
+    /**
+     * Result of read().
+     */
+    final class Reading {
+        private final int health;
+        private final int maxHealth;
+        private final int mana;
+        private final int maxMana;
+        private final boolean alive;
+        private final int gold;
+
+        Reading(int health, int maxHealth, int mana, int maxMana, boolean alive, int gold) {
+            this.health = health;
+            this.maxHealth = maxHealth;
+            this.mana = mana;
+            this.maxMana = maxMana;
+            this.alive = alive;
+            this.gold = gold;
+        }
+
+        public int getHealth() { return health; }
+        public int getMaxHealth() { return maxHealth; }
+        public int getMana() { return mana; }
+        public int getMaxMana() { return maxMana; }
+        public boolean isAlive() { return alive; }
+        public int getGold() { return gold; }
+    }
+}
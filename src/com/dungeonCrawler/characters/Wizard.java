@@ -1,22 +1,25 @@
 package com.dungeonCrawler.characters;
 
 import com.dungeonCrawler.rooms.Room;
-import java.util.Random;
+import com.dungeonCrawler.utils.RandomStreams;
+import java.util.SplittableRandom;
 
 /**
  * Wizard class - Masters of magic with high mana pool and spellcasting.
  */
 public class Wizard extends GameCharacter {
-    private Random random;
     private int intelligence;
     private int spellPower;
     
     public Wizard(String name) {
-        super(name, 100, 200);
-        this.random = new Random();
+        this(name, RandomStreams.global().split());
+    }
+    
+    public Wizard(String name, SplittableRandom random) {
+        super(name, 100, 200, random);
         this.intelligence = 40;
         this.spellPower = 30;
-        this.setName(name);
+        setCombatStrategy(new WizardCombat(this));
     }
     
     @Override
@@ -27,8 +30,7 @@ public class Wizard extends GameCharacter {
     @Override
     public void act(Room room) {
         // Wizard explores the room with magical prowess
-        Random rand = new Random();
-        int action = rand.nextInt(3);
+        int action = random.nextInt(3);
         
         switch(action) {
             case 0:
@@ -45,24 +47,18 @@ public class Wizard extends GameCharacter {
     
     @Override
     public void useAbility() {
-        if (mana >= 40) {
-            mana -= 40;
+        if (deductMana(40)) {
             addLog(name + " casts FIREBALL! Dealing massive area damage!");
             addLog(name + " increased spell power by 15.");
             spellPower += 15;
             
-            // Reduce spell power after cooldown
-            new Thread(() -> {
-                try {
-                    Thread.sleep(3500);
-                    synchronized(this) {
-                        spellPower -= 15;
-                        addLog(name + "'s fireball effect cools down.");
-                    }
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
+            // Reduce spell power after four rounds
+            statusEffects.schedule("Fireball", 4, () -> {
+                synchronized(this) {
+                    spellPower -= 15;
                 }
-            }).start();
+                addLog(name + "'s fireball effect cools down.");
+            });
         } else {
             addLog(name + " doesn't have enough mana for Fireball! (Requires 40 mana)");
         }
@@ -72,8 +68,7 @@ public class Wizard extends GameCharacter {
      * Wizard's unique ability: Arcane Missile
      */
     public void arcaneMissile() {
-        if (mana >= 15) {
-            mana -= 15;
+        if (deductMana(15)) {
             int damage = spellPower + random.nextInt(10);
             addLog(name + " casts ARCANE MISSILE for " + damage + " damage!");
         } else {
@@ -85,18 +80,11 @@ public class Wizard extends GameCharacter {
      * Wizard's unique ability: Mana Shield
      */
     public void manaShield() {
-        if (mana >= 50) {
-            mana -= 50;
+        if (deductMana(50)) {
             addLog(name + " creates a MANA SHIELD, converting mana to temporary armor!");
             int temporaryArmor = 30;
             addLog(name + " gained " + temporaryArmor + " temporary armor.");
-            
-            try {
-                Thread.sleep(2000);
-                addLog(name + "'s mana shield dissipates.");
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
+            statusEffects.schedule("Mana Shield", 2, () -> addLog(name + "'s mana shield dissipates."));
         } else {
             addLog(name + " doesn't have enough mana for Mana Shield!");
         }
@@ -106,16 +94,9 @@ public class Wizard extends GameCharacter {
      * Wizard's unique ability: Teleport
      */
     public void teleport() {
-        if (mana >= 35) {
-            mana -= 35;
+        if (deductMana(35)) {
             addLog(name + " casts TELEPORT and vanishes in a flash of arcane light!");
-            addLog(name + " reappears at a safe distance!");
-            
-            try {
-                Thread.sleep(1000);
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
+            statusEffects.schedule("Teleport", 1, () -> addLog(name + " reappears at a safe distance!"));
         } else {
             addLog(name + " doesn't have enough mana for Teleport!");
         }
@@ -130,13 +111,8 @@ public class Wizard extends GameCharacter {
     }
     
     @Override
-    public void run() {
+    public void enterDungeon() {
         addLog(name + " the Wizard enters the dungeon, eyes glowing with arcane power...");
-        try {
-            Thread.sleep(500 + random.nextInt(500));
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
     }
     
     public int getIntelligence() { return intelligence; }
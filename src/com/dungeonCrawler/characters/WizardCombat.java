@@ -0,0 +1,29 @@
+package com.dungeonCrawler.characters;
+
+import com.dungeonCrawler.rooms.CombatJournal;
+import java.util.SplittableRandom;
+
+/**
+ * Wizard combat: casts a fireball while mana lasts, otherwise a weak basic attack.
+ */
+final class WizardCombat implements CombatStrategy {
+    private final Wizard wizard;
+
+    WizardCombat(Wizard wizard) {
+        this.wizard = wizard;
+    }
+
+    @Override
+    public int attack(int baseDamage, SplittableRandom random, CombatJournal journal) {
+        if (wizard.getMana() >= 20) {
+            wizard.deductMana(20);
+            int spellDamage = baseDamage + 15;
+            journal.append("  🔮 Wizard casts FIREBALL (-20 mana) for " + spellDamage + " total damage!");
+            return spellDamage;
+        } else {
+            journal.append("  ⚠️  Not enough mana for spell! Basic attack only (-5 mana)");
+            wizard.deductMana(5);
+            return baseDamage;
+        }
+    }
+}
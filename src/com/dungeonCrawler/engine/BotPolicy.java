@@ -0,0 +1,150 @@
+package com.dungeonCrawler.engine;
+
+import com.dungeonCrawler.characters.GameCharacter;
+import com.dungeonCrawler.characters.GearOptimizer;
+import com.dungeonCrawler.items.Equipment;
+import com.dungeonCrawler.items.Potion;
+import com.dungeonCrawler.rooms.RoomOption;
+import com.dungeonCrawler.rooms.RoomType;
+import com.dungeonCrawler.utils.RandomStreams;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Automated player: greedy rules with random tie-breaking. Never blocks, so
+ * bot-driven runs go at CPU speed.
+ *  - Rest when the party is badly hurt, fight while healthy, loot while hurt
+ *  - Auto-equip the party's best gear and drink health potions on wounded heroes
+ *  - Buy the priciest affordable shop item while keeping a gold reserve
+ */
+public class BotPolicy implements PlayerPolicy {
+    private static final double REST_THRESHOLD = 0.4;
+    private static final double FIGHT_THRESHOLD = 0.6;
+    private static final double POTION_THRESHOLD = 0.5;
+    private static final int GOLD_RESERVE = 100;
+    private static final int MAX_INVENTORY_COMMANDS = 50;
+
+    private final SplittableRandom random;
+    private int inventoryCommandsIssued;
+
+    public BotPolicy(SplittableRandom random) {
+        this.random = random;
+    }
+
+    public BotPolicy() {
+        this(RandomStreams.global().split());
+    }
+
+    @Override
+    public int chooseMainAction(GameCharacter[] party, boolean restAvailable) {
+        if (restAvailable && partyHealthRatio(party) < REST_THRESHOLD) {
+            return 4;
+        }
+        if (inventoryCommandsIssued == 0 && hasInventoryWork(party)) {
+            return 2;
+        }
+        inventoryCommandsIssued = 0;
+        return 1;
+    }
+
+    @Override
+    public int chooseRoom(List<RoomOption> options, GameCharacter[] party) {
+        // Fights give experience while healthy; anything else is safer while hurt
+        boolean wantsFight = partyHealthRatio(party) >= FIGHT_THRESHOLD;
+        int start = random.nextInt(options.size());
+        for (int n = 0; n < options.size(); n++) {
+            int i = (start + n) % options.size();
+            boolean combat = options.get(i).getType() == RoomType.COMBAT;
+            if (combat == wantsFight) {
+                return i + 1;
+            }
+        }
+        return start + 1;
+    }
+
+    @Override
+    public int chooseShopItem(List<Equipment> items, List<Integer> prices, int partyGold) {
+        int best = -1;
+        for (int i = 0; i < items.size(); i++) {
+            int price = prices.get(i);
+            if (partyGold - price >= GOLD_RESERVE && (best < 0 || price > prices.get(best))) {
+                best = i;
+            }
+        }
+        return best >= 0 ? best + 1 : items.size() + 1;
+    }
+
+    @Override
+    public String nextInventoryCommand(List<Object> slots, GameCharacter[] party) {
+        if (++inventoryCommandsIssued > MAX_INVENTORY_COMMANDS) {
+            return "exit";
+        }
+        if (GearOptimizer.countChanges(party) > 0) {
+            return "optimize";
+        }
+        for (int i = 0; i < slots.size(); i++) {
+            Object item = slots.get(i);
+            if (item instanceof Potion) {
+                int hero = findPotionTarget((Potion) item, party);
+                if (hero >= 0) {
+                    return "i" + i + "-h" + (hero + 1);
+                }
+            }
+        }
+        return "exit";
+    }
+
+    @Override
+    public int chooseCharacter(GameCharacter[] party) {
+        return random.nextInt(party.length) + 1;
+    }
+
+    @Override
+    public void awaitContinue(String prompt) {
+        // bots never wait
+    }
+
+    private boolean hasInventoryWork(GameCharacter[] party) {
+        if (GearOptimizer.countChanges(party) > 0) {
+            return true;
+        }
+        boolean[] found = {false};
+        for (GameCharacter owner : party) {
+            owner.getInventory().forEachPotion(p -> found[0] |= findPotionTarget(p, party) >= 0);
+            if (found[0]) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Most wounded living hero who needs the potion, or -1.
+     */
+    private int findPotionTarget(Potion potion, GameCharacter[] party) {
+        int target = -1;
+        double lowest = POTION_THRESHOLD;
+        for (int h = 0; h < party.length; h++) {
+            GameCharacter c = party[h];
+            if (!c.isCharacterAlive()) continue;
+            double ratio = potion.getType() == Potion.PotionType.MANA
+                ? (double) c.getMana() / c.getMaxMana()
+                : (double) c.getHealth() / c.getMaxHealth();
+            if (ratio < lowest) {
+                lowest = ratio;
+                target = h;
+            }
+        }
+        return target;
+    }
+
+    private static double partyHealthRatio(GameCharacter[] party) {
+        int health = 0;
+        int max = 0;
+        for (GameCharacter c : party) {
+            if (c.isCharacterAlive()) {
+                health += c.getHealth();
+                max += c.getMaxHealth();
+            }
+        }
+        return max == 0 ? 0 : (double) health / max;
+    }
+}
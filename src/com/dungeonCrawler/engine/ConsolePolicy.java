@@ -0,0 +1,91 @@
+package com.dungeonCrawler.engine;
+
+import com.dungeonCrawler.characters.GameCharacter;
+import com.dungeonCrawler.items.Equipment;
+import com.dungeonCrawler.rooms.RoomOption;
+import com.dungeonCrawler.utils.BufferedConsoleSink;
+import com.dungeonCrawler.utils.OutputSink;
+import java.util.InputMismatchException;
+import java.util.List;
+import java.util.Scanner;
+
+/**
+ * Interactive policy that prompts on the console and reads answers from a Scanner.
+ */
+public class ConsolePolicy implements PlayerPolicy {
+    private final Scanner scanner;
+    private final OutputSink output;
+
+    public ConsolePolicy(Scanner scanner) {
+        this(scanner, BufferedConsoleSink.stdout());
+    }
+
+    public ConsolePolicy(Scanner scanner, OutputSink output) {
+        this.scanner = scanner;
+        this.output = output;
+    }
+
+    @Override
+    public int chooseMainAction(GameCharacter[] party, boolean restAvailable) {
+        prompt("\nChoice: ");
+        return readInt();
+    }
+
+    @Override
+    public int chooseRoom(List<RoomOption> options, GameCharacter[] party) {
+        prompt("\nRoom choice (1-" + options.size() + "): ");
+        return readInt();
+    }
+
+    @Override
+    public int chooseShopItem(List<Equipment> items, List<Integer> prices, int partyGold) {
+        prompt("\nSelect item (1-" + (items.size() + 1) + "): ");
+        return readInt();
+    }
+
+    @Override
+    public String nextInventoryCommand(List<Object> slots, GameCharacter[] party) {
+        prompt("Command: ");
+        return scanner.nextLine().trim();
+    }
+
+    @Override
+    public int chooseCharacter(GameCharacter[] party) {
+        prompt("\nSelect character: ");
+        return readInt();
+    }
+
+    @Override
+    public void awaitContinue(String prompt) {
+        prompt(prompt);
+        scanner.nextLine();
+    }
+
+    @Override
+    public void close() {
+        scanner.close();
+    }
+
+    /**
+     * Show a prompt, flushing everything buffered so far so the screen is complete
+     * before we block on input.
+     */
+    private void prompt(String text) {
+        output.print(text);
+        output.flush();
+    }
+
+    /**
+     * Read a whole line as an int, returning -1 for bad input.
+     */
+    private int readInt() {
+        int value = -1;
+        try {
+            value = scanner.nextInt();
+        } catch (InputMismatchException e) {
+            // consume bad input
+        }
+        scanner.nextLine();
+        return value;
+    }
+}
@@ -3,11 +3,22 @@ package com.dungeonCrawler.engine;
 import com.dungeonCrawler.characters.Knight;
 import com.dungeonCrawler.characters.Thief;
 import com.dungeonCrawler.characters.Wizard;
+import com.dungeonCrawler.characters.CharacterSnapshot;
 import com.dungeonCrawler.characters.GameCharacter;
+import com.dungeonCrawler.characters.GearOptimizer;
 import com.dungeonCrawler.boss.BossFactory;
+import com.dungeonCrawler.items.InventoryChange;
+import com.dungeonCrawler.items.InventoryListener;
+import com.dungeonCrawler.items.LootTable;
+import com.dungeonCrawler.utils.Banners;
+import com.dungeonCrawler.utils.BufferedConsoleSink;
 import com.dungeonCrawler.utils.GameLogger;
+import com.dungeonCrawler.utils.OutputSink;
+import com.dungeonCrawler.utils.RandomStreams;
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Scanner;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Main application entry point for the Dungeon Crawler adventure game.
@@ -16,13 +27,26 @@ import java.util.Random;
 public class DungeonCrawlerApp {
     private GameEngine engine;
     private GameCharacter[] characters;
-    private Scanner scanner;
-    private Random random;
+    private PlayerPolicy policy;
+    private OutputSink output;
+    private SplittableRandom random;
     private int playerGold;  // Shared gold pool for all heroes
     
     public DungeonCrawlerApp() {
-        this.scanner = new Scanner(System.in);
-        this.random = new Random();
+        this(new ConsolePolicy(new Scanner(System.in)));
+    }
+    
+    public DungeonCrawlerApp(PlayerPolicy policy) {
+        this(policy, BufferedConsoleSink.stdout());
+    }
+    
+    /**
+     * Create a game that writes all of its text to the given sink.
+     */
+    public DungeonCrawlerApp(PlayerPolicy policy, OutputSink output) {
+        this.policy = policy;
+        this.output = output;
+        this.random = RandomStreams.global().split();
         this.playerGold = 0;
     }
     
@@ -39,44 +63,46 @@ public class DungeonCrawlerApp {
 
         // Create engine and start adventure
         engine = new GameEngine(characters, 15);
+        engine.setOutput(output);
+        engine.pregenerateFloors();
         playAdventure();
 
         // Game end summary
         if (engine.isGameActive()) {
-            System.out.println("\n" + "=".repeat(80));
-            System.out.println("*** ADVENTURE COMPLETE ***");
-            System.out.println("=".repeat(80) + "\n");
+            output.println("\n" + Banners.DOUBLE_LINE);
+            output.println("*** ADVENTURE COMPLETE ***");
+            output.println(Banners.DOUBLE_LINE + "\n");
         }
 
-        GameLogger.printGameStatistics(characters);
-        GameLogger.rankCharactersByBattles(characters);
-        GameLogger.rankCharactersByGold(characters);
+        GameLogger.printGameStatistics(characters, output);
+        GameLogger.rankCharactersByBattles(characters, output);
+        GameLogger.rankCharactersByGold(characters, output);
         GameCharacter highest = GameLogger.getHighestLevelCharacter(characters);
         if (highest != null) {
-            System.out.println("\n*** HIGHEST LEVEL: " + highest.getCharacterName() + " (Level " + highest.getLevel() + ") ***\n");
+            output.println("\n*** HIGHEST LEVEL: " + highest.getCharacterName() + " (Level " + highest.getLevel() + ") ***\n");
         }
 
-        scanner.close();
+        output.flush();
+        policy.close();
     }
     private void showIntroduction() {
-        System.out.println("\n" + "-".repeat(80));
-        System.out.println("WELCOME TO THE DESCENT: CHRONICLES OF THREE HEROES");
-        System.out.println("Aethermoor has fallen under the shadow of Malachar, the Dark Lord.");
-        System.out.println("Three heroes must venture deep into the dungeon to stop the spreading corruption.");
-        System.out.println("You will choose rooms each turn — some hold treasure, others foes, and a rare shop may appear.");
-        System.out.println("Survive 15 floors, defeat the champions of the dark, and face Malachar himself on the final floor.");
-        System.out.println("" + "-".repeat(80));
-        System.out.print("Press Enter to begin the adventure...");
-        scanner.nextLine();
+        output.println("\n" + Banners.SINGLE_LINE);
+        output.println("WELCOME TO THE DESCENT: CHRONICLES OF THREE HEROES");
+        output.println("Aethermoor has fallen under the shadow of Malachar, the Dark Lord.");
+        output.println("Three heroes must venture deep into the dungeon to stop the spreading corruption.");
+        output.println("You will choose rooms each turn — some hold treasure, others foes, and a rare shop may appear.");
+        output.println("Survive 15 floors, defeat the champions of the dark, and face Malachar himself on the final floor.");
+        output.println(Banners.SINGLE_LINE);
+        policy.awaitContinue("Press Enter to begin the adventure...");
     }
     
     /**
      * Initialize characters.
      */
     private void initializeCharacters() {
-        System.out.println("\n" + "=".repeat(80));
-        System.out.println("*** CHARACTER CREATION ***");
-        System.out.println("=".repeat(80) + "\n");
+        output.println("\n" + Banners.DOUBLE_LINE);
+        output.println("*** CHARACTER CREATION ***");
+        output.println(Banners.DOUBLE_LINE + "\n");
         
         Knight knight = new Knight("Theron");
         Thief thief = new Thief("Shadowblade");
@@ -84,10 +110,10 @@ public class DungeonCrawlerApp {
         
         characters = new GameCharacter[] { knight, thief, wizard };
         
-        System.out.println("Three legendary heroes have assembled:\n");
+        output.println("Three legendary heroes have assembled:\n");
         for (GameCharacter character : characters) {
-            System.out.println("- " + character.getCharacterName() + " the " + character.getCharacterClass());
-            System.out.println("  Health: " + character.getMaxHealth() + " | Mana: " + character.getMaxMana() + "\n");
+            output.println("- " + character.getCharacterName() + " the " + character.getCharacterClass());
+            output.println("  Health: " + character.getMaxHealth() + " | Mana: " + character.getMaxMana() + "\n");
         }
         
     }
@@ -96,10 +122,12 @@ public class DungeonCrawlerApp {
      * Main adventure loop.
      */
     private void playAdventure() {
+        // first floor; nextFloor() installs the rest from the background prefetch
+        engine.generateFloorRooms();
         while (engine.isGameActive() && engine.getCurrentFloor() <= engine.getMaxFloors()) {
-            System.out.println("\n" + "=".repeat(80));
-            System.out.println("FLOOR " + engine.getCurrentFloor() + "/" + engine.getMaxFloors());
-            System.out.println("=".repeat(80));
+            output.println("\n" + Banners.DOUBLE_LINE);
+            output.println("FLOOR " + engine.getCurrentFloor() + "/" + engine.getMaxFloors());
+            output.println(Banners.DOUBLE_LINE);
             
             // Check for boss floor
             if (engine.getCurrentFloor() % 5 == 0 && engine.getCurrentFloor() < engine.getMaxFloors()) {
@@ -112,9 +140,6 @@ public class DungeonCrawlerApp {
                 break;
             }
             
-            // Generate floor rooms
-            engine.generateFloorRooms();
-            
             // Play through floor (5 room choices + rest points)
             playFloor();
             
@@ -136,53 +161,46 @@ public class DungeonCrawlerApp {
             // Reset rest availability for each new room
             boolean restUsedThisRoom = false;
             
-            System.out.println("\n[FLOOR " + engine.getCurrentFloor() + "] [ROOM " + round + " OF 5]");
+            output.println("\n[FLOOR " + engine.getCurrentFloor() + "] [ROOM " + round + " OF 5]");
 
-            // Generate three room options with constraints ONCE per round
-            java.util.List<com.dungeonCrawler.rooms.Room> options = generateRoomOptions(restingHeroes);
+            // Rooms reachable from where the party has been, generated ONCE per round
+            java.util.List<com.dungeonCrawler.rooms.RoomOption> options = engine.generateRoomOptions(restingHeroes);
+            if (options.isEmpty()) break; // whole floor explored
 
             // Inner loop: prompt until a consuming action (explore a room) occurs
             boolean roundComplete = false;
             while (!roundComplete) {
                 // Display main menu; 'Explore' opens the generated room choices
-                System.out.println("\nChoices:");
-                System.out.println("1. Explore");
-                System.out.println("2. Inventory and Equipment");
-                System.out.println("3. Check status");
+                output.println("\nChoices:");
+                output.println("1. Explore");
+                output.println("2. Inventory and Equipment");
+                output.println("3. Check status");
                 if (!restUsedThisRoom) {
-                    System.out.println("4. Rest and recover");
+                    output.println("4. Rest and recover");
                 }
 
-                System.out.print("\nChoice: ");
-                int mainChoice = -1;
-                try {
-                    mainChoice = scanner.nextInt();
-                } catch (java.util.InputMismatchException e) {
-                    // consume bad input
-                }
-                scanner.nextLine();
+                int mainChoice = policy.chooseMainAction(characters, !restUsedThisRoom);
 
                 if (mainChoice == 1) {
-                    // Show the three generated room options and let the player pick one
-                    System.out.println("\nSelect a room to explore:");
+                    // Show the reachable rooms and let the player pick one
+                    output.println("\nSelect a room to explore:");
                     for (int i = 0; i < options.size(); i++) {
-                        System.out.println((i + 1) + ". " + options.get(i).getRoomType() + " - " + options.get(i).getDescription());
+                        output.println((i + 1) + ". " + options.get(i).getRoomType() + " - " + options.get(i).getDescription());
                     }
-                    System.out.print("\nRoom choice (1-3): ");
-                    int roomChoice = -1;
-                    try {
-                        roomChoice = scanner.nextInt();
-                    } catch (java.util.InputMismatchException e) {
-                        // consume bad input
-                    }
-                    scanner.nextLine();
+                    int roomChoice = policy.chooseRoom(options, characters);
 
                     if (roomChoice >= 1 && roomChoice <= options.size()) {
-                        com.dungeonCrawler.rooms.Room chosen = options.get(roomChoice - 1);
+                        com.dungeonCrawler.rooms.RoomOption option = options.get(roomChoice - 1);
+                        engine.exploreRoom(option);
+                        com.dungeonCrawler.rooms.Room chosen = option.materialize();
 
                         if (chosen instanceof com.dungeonCrawler.rooms.ShopRoom) {
-                            engine.markShopVisited();
-                            handleShopRoom((com.dungeonCrawler.rooms.ShopRoom) chosen);
+                            com.dungeonCrawler.rooms.ShopRoom shop = (com.dungeonCrawler.rooms.ShopRoom) chosen;
+                            if (shop.markVisited()) {
+                                handleShopRoom(shop);
+                            } else {
+                                output.println("The shop is already closed!");
+                            }
                         } else if (chosen instanceof com.dungeonCrawler.rooms.ChestRoom) {
                             handleChestRoom((com.dungeonCrawler.rooms.ChestRoom) chosen);
                         } else if (chosen instanceof com.dungeonCrawler.rooms.CombatRoom) {
@@ -193,7 +211,7 @@ public class DungeonCrawlerApp {
                         restingHeroes.clear();
                         roundComplete = true;
                     } else {
-                        System.out.println("Invalid room selection.");
+                        output.println("Invalid room selection.");
                     }
 
                 } else if (mainChoice == 2) {
@@ -211,67 +229,24 @@ public class DungeonCrawlerApp {
                             restingHeroes.add(hc);
                         }
                     }
-                    System.out.println("The party rests: healed 25 HP and refilled mana for all living heroes.");
+                    output.println("The party rests: healed 25 HP and refilled mana for all living heroes.");
                     restUsedThisRoom = true;
                     // rest does not complete round; options persist
                 } else {
-                    System.out.println("Invalid choice, please select again.");
+                    output.println("Invalid choice, please select again.");
                 }
             }
-        }
-    }
-
-    /**
-     * Generate three room options for the player to choose from.
-     * Rules:
-     *  - For each round, chest and shop may be included at most once in the three options
-     *  - Shop will only be included if the engine reports a shop is available this floor
-     */
-    private java.util.List<com.dungeonCrawler.rooms.Room> generateRoomOptions(java.util.Set<GameCharacter> restingHeroes) {
-        java.util.List<com.dungeonCrawler.rooms.Room> options = new java.util.ArrayList<>();
-        java.util.Random rnd = new java.util.Random();
-
-        boolean chestIncluded = false;
-        boolean shopIncluded = false;
-
-        while (options.size() < 3) {
-            int pick = rnd.nextInt(3); // 0=Chest,1=Combat,2=Shop
 
-            if (pick == 2) { // Shop
-                if (!shopIncluded && engine.isShopAvailable()) {
-                    // Use the shared shopRoom from engine so it remembers visited state
-                    com.dungeonCrawler.rooms.Room shop = engine.getShopRoom();
-                    if (shop != null) {
-                        options.add(shop);
-                        shopIncluded = true;
-                    } else {
-                        // fallback to combat when shop is not created
-                            options.add(new com.dungeonCrawler.rooms.CombatRoom(engine.getCurrentFloor(), restingHeroes));
-                    }
-                } else {
-                    // shop not allowed, choose another
-                    continue;
-                }
-            } else if (pick == 0) { // Chest
-                if (!chestIncluded) {
-                    options.add(new com.dungeonCrawler.rooms.ChestRoom());
-                    chestIncluded = true;
-                } else {
-                    continue; // skip duplicate chest in same round
-                }
-            } else { // Combat
-                    options.add(new com.dungeonCrawler.rooms.CombatRoom(engine.getCurrentFloor(), restingHeroes));
-            }
+            // Write the whole turn to the console at once
+            output.flush();
         }
-
-        return options;
     }
 
     /**
      * Handle chest room entry - display rewards and which hero received them.
      */
     private void handleChestRoom(com.dungeonCrawler.rooms.ChestRoom chestRoom) {
-        System.out.println("\n*** TREASURE CHEST ***\n");
+        output.println("\n*** TREASURE CHEST ***\n");
         
         // Pick a random hero to receive the treasure
         java.util.List<GameCharacter> aliveHeroes = new java.util.ArrayList<>();
@@ -285,16 +260,18 @@ public class DungeonCrawlerApp {
         
         GameCharacter luckyHero = aliveHeroes.get(random.nextInt(aliveHeroes.size()));
         
-        // Get initial state
-        int initialGold = playerGold;
+        // Get initial state and listen for what the chest adds to the hero's inventory
         int heroInitialGold = luckyHero.getGold();
-        java.util.List<com.dungeonCrawler.items.Equipment> initialBag = 
-            new java.util.ArrayList<>(luckyHero.getInventory().getBagEquipment());
-        java.util.List<com.dungeonCrawler.items.Potion> initialPotions = 
-            new java.util.ArrayList<>(luckyHero.getInventory().getAllPotions());
+        java.util.List<InventoryChange> loot = new java.util.ArrayList<>();
+        InventoryListener lootListener = loot::add;
+        luckyHero.getInventory().addListener(lootListener);
         
         // Enter the chest
-        chestRoom.enter(luckyHero);
+        try {
+            chestRoom.enter(luckyHero);
+        } finally {
+            luckyHero.getInventory().removeListener(lootListener);
+        }
         
         // Determine and display what was received
         int heroNewGold = luckyHero.getGold();
@@ -302,36 +279,28 @@ public class DungeonCrawlerApp {
         if (goldGained > 0) {
             // Add to party pool
             playerGold += goldGained;
-            System.out.println("💰 " + luckyHero.getCharacterName() + " found " + goldGained + " gold!");
+            output.println("💰 " + luckyHero.getCharacterName() + " found " + goldGained + " gold!");
         }
         
-        // Check for new equipment
-        java.util.List<com.dungeonCrawler.items.Equipment> newBag = luckyHero.getInventory().getBagEquipment();
-        for (com.dungeonCrawler.items.Equipment eq : newBag) {
-            if (!initialBag.contains(eq)) {
-                System.out.println("⚔️  " + luckyHero.getCharacterName() + " found: " + eq.toString());
-            }
-        }
-        
-        // Check for new potions
-        java.util.List<com.dungeonCrawler.items.Potion> newPotions = luckyHero.getInventory().getAllPotions();
-        if (newPotions.size() > initialPotions.size()) {
-            for (com.dungeonCrawler.items.Potion p : newPotions) {
-                if (!initialPotions.contains(p)) {
-                    System.out.println("🧪 " + luckyHero.getCharacterName() + " found: " + p.toString());
-                }
+        // Report exactly the items that were added
+        for (InventoryChange change : loot) {
+            if (change.getKind() == InventoryChange.Kind.EQUIPMENT_ADDED) {
+                output.println("⚔️  " + luckyHero.getCharacterName() + " found: " + change.getEquipment().toString());
+            } else if (change.getKind() == InventoryChange.Kind.POTION_ADDED) {
+                output.println("🧪 " + luckyHero.getCharacterName() + " found: " + change.toPotion().toString());
             }
         }
         
-        System.out.println();
+        output.println();
     }
 
     /**
      * Handle shop room entry - display 5 items for purchase.
      */
     private void handleShopRoom(com.dungeonCrawler.rooms.ShopRoom shopRoom) {
-        System.out.println("\n*** MYSTERIOUS SHOP ***\n");
+        output.println("\n*** MYSTERIOUS SHOP ***\n");
         
+        LootTable loot = LootTable.forFloor(engine.getCurrentFloor());
         boolean shopping = true;
         while (shopping) {
             // Generate 5 items to display
@@ -339,30 +308,21 @@ public class DungeonCrawlerApp {
             java.util.List<Integer> shopPrices = new java.util.ArrayList<>();
             
             for (int i = 0; i < 5; i++) {
-                com.dungeonCrawler.items.EquipmentType[] types = com.dungeonCrawler.items.EquipmentType.values();
-                com.dungeonCrawler.items.EquipmentType type = types[random.nextInt(types.length)];
                 int heroLevel = characters[random.nextInt(characters.length)].getLevel();
-                com.dungeonCrawler.items.Equipment item = new com.dungeonCrawler.items.Equipment(type, heroLevel + 1);
+                com.dungeonCrawler.items.Equipment item = loot.rollShopItem(random, heroLevel);
                 shopItems.add(item);
-                shopPrices.add(type.getValue() * 20);
+                shopPrices.add(loot.getPrice(item.getType()));
             }
             
             // Display shop inventory with current gold
-            System.out.println("Party Gold: " + playerGold + " gold\n");
-            System.out.println("Available Items:\n");
+            output.println("Party Gold: " + playerGold + " gold\n");
+            output.println("Available Items:\n");
             for (int i = 0; i < shopItems.size(); i++) {
-                System.out.println((i + 1) + ". " + shopItems.get(i).toString() + " - " + shopPrices.get(i) + " gold");
+                output.println((i + 1) + ". " + shopItems.get(i).toString() + " - " + shopPrices.get(i) + " gold");
             }
-            System.out.println("6. Leave the shop");
+            output.println("6. Leave the shop");
             
-            System.out.print("\nSelect item (1-6): ");
-            int itemChoice = -1;
-            try {
-                itemChoice = scanner.nextInt();
-            } catch (java.util.InputMismatchException e) {
-                // consume bad input
-            }
-            scanner.nextLine();
+            int itemChoice = policy.chooseShopItem(shopItems, shopPrices, playerGold);
             
             if (itemChoice >= 1 && itemChoice <= 5) {
                 // Purchase item
@@ -375,19 +335,19 @@ public class DungeonCrawlerApp {
                     for (GameCharacter c : characters) {
                         if (c.isCharacterAlive()) {
                             c.getInventory().addEquipment(selectedItem);
-                            System.out.println("\n✓ " + selectedItem.getType() + " purchased for " + price + " gold!");
-                            System.out.println("Remaining gold: " + playerGold + "\n");
+                            output.println("\n✓ " + selectedItem.getType() + " purchased for " + price + " gold!");
+                            output.println("Remaining gold: " + playerGold + "\n");
                             break;
                         }
                     }
                 } else {
-                    System.out.println("\nNot enough gold! This item costs " + price + " gold. Party has " + playerGold + ".\n");
+                    output.println("\nNot enough gold! This item costs " + price + " gold. Party has " + playerGold + ".\n");
                 }
             } else if (itemChoice == 6) {
                 shopping = false;
-                System.out.println("\nYou leave the shop.\n");
+                output.println("\nYou leave the shop.\n");
             } else {
-                System.out.println("Invalid choice.\n");
+                output.println("Invalid choice.\n");
             }
         }
     }
@@ -396,16 +356,16 @@ public class DungeonCrawlerApp {
      * Handle combat room entry - show combat sequence.
      */
     private void handleCombatRoom(com.dungeonCrawler.rooms.CombatRoom combatRoom, java.util.Set<GameCharacter> restingHeroes, boolean restUsedThisRoom) {
-        System.out.println("\n*** COMBAT ENGAGED ***\n");
+        output.println("\n*** COMBAT ENGAGED ***\n");
 
         // Only skip combat if Rest was selected for this room and there are resting heroes
         if (restUsedThisRoom && restingHeroes != null && !restingHeroes.isEmpty()) {
-            System.out.println("Combat system skipped due to rest — enemy lashes out at the whole party!");
+            output.println("Combat system skipped due to rest — enemy lashes out at the whole party!");
             int damage = combatRoom.applyEqualDamageToAll(characters);
-            System.out.println("Each living hero took " + damage + " damage.");
+            output.println("Each living hero took " + damage + " damage.");
             // Display per-hero health after the strike
             for (GameCharacter c : characters) {
-                System.out.println(c.getCharacterName() + ": " + c.getHealth() + "/" + c.getMaxHealth() + " HP" + (c.isCharacterAlive() ? "" : " (DEFEATED)"));
+                output.println(c.getCharacterName() + ": " + c.getHealth() + "/" + c.getMaxHealth() + " HP" + (c.isCharacterAlive() ? "" : " (DEFEATED)"));
             }
             return;
         }
@@ -417,18 +377,16 @@ public class DungeonCrawlerApp {
             }
         }
         
-        // Display the complete combat log (all heroes share the same log via broadcastToAll)
+        // Display the complete combat log (the encounter's shared journal)
         if (characters.length > 0) {
-            GameCharacter firstHero = characters[0];
+            com.dungeonCrawler.rooms.CombatJournal journal = combatRoom.getJournal();
             
-            if (!firstHero.getBattleLog().isEmpty()) {
-                System.out.println("\n" + "=".repeat(80));
-                System.out.println("*** COMBAT LOG ***");
-                System.out.println("=".repeat(80));
-                for (String logEntry : firstHero.getBattleLog()) {
-                    System.out.println(logEntry);
-                }
-                System.out.println("=".repeat(80) + "\n");
+            if (!journal.isEmpty()) {
+                output.println("\n" + Banners.DOUBLE_LINE);
+                output.println("*** COMBAT LOG ***");
+                output.println(Banners.DOUBLE_LINE);
+                journal.forEach(output::println);
+                output.println(Banners.DOUBLE_LINE + "\n");
             }
             // Add gold earned in this combat to the party pool
             int goldFromCombat = combatRoom.getLastGoldEarned();
@@ -445,24 +403,21 @@ public class DungeonCrawlerApp {
 
     
 
-        /**
-     * Manage inventory and equipment for heroes with 21-slot system.
-     * Commands: i#-h# (equip to hero), i#-u (use potion), i#-d (drop)
+    /**
+     * Fill the 21-slot view with every hero's bag items and potions, padded with empty slots.
      */
-    private void manageInventory() {
-        // Collect all items into a single 21-slot inventory
-        java.util.List<Object> inventorySlots = new java.util.ArrayList<>();
-        // Track which hero originally owned each slot entry (null = none)
-        java.util.List<GameCharacter> slotOwners = new java.util.ArrayList<>();
+    private void collectInventorySlots(java.util.List<Object> inventorySlots, java.util.List<GameCharacter> slotOwners) {
+        inventorySlots.clear();
+        slotOwners.clear();
         for (GameCharacter hero : characters) {
-            for (com.dungeonCrawler.items.Equipment eq : hero.getInventory().getBagEquipment()) {
+            hero.getInventory().forEachBagItem(eq -> {
                 inventorySlots.add(eq);
                 slotOwners.add(hero);
-            }
-            for (com.dungeonCrawler.items.Potion potion : hero.getInventory().getAllPotions()) {
+            });
+            hero.getInventory().forEachPotion(potion -> {
                 inventorySlots.add(potion);
                 slotOwners.add(hero);
-            }
+            });
         }
         
         // Fill remaining slots to 21 with nulls (empty)
@@ -470,61 +425,76 @@ public class DungeonCrawlerApp {
             inventorySlots.add(null);
             slotOwners.add(null);
         }
+    }
+    
+    /**
+     * Manage inventory and equipment for heroes with 21-slot system.
+     * Commands: i#-h# (equip to hero), i#-u (use potion), i#-d (drop), optimize (auto-equip)
+     */
+    private void manageInventory() {
+        // Collect all items into a single 21-slot inventory
+        java.util.List<Object> inventorySlots = new java.util.ArrayList<>();
+        // Track which hero originally owned each slot entry (null = none)
+        java.util.List<GameCharacter> slotOwners = new java.util.ArrayList<>();
+        collectInventorySlots(inventorySlots, slotOwners);
         
         boolean managing = true;
         while (managing) {
-            System.out.println("\n" + "=".repeat(80));
-            System.out.println("*** INVENTORY MANAGEMENT (21 SLOTS) ***");
-            System.out.println("=".repeat(80));
+            output.println("\n" + Banners.DOUBLE_LINE);
+            output.println("*** INVENTORY MANAGEMENT (21 SLOTS) ***");
+            output.println(Banners.DOUBLE_LINE);
             
             // Display hero status with equipped items
-            System.out.println("\n[HEROES & EQUIPPED ITEMS]");
-            System.out.println("Party Gold Pool: " + playerGold + " gold\n");
+            output.println("\n[HEROES & EQUIPPED ITEMS]");
+            output.println("Party Gold Pool: " + playerGold + " gold\n");
             for (int h = 0; h < characters.length; h++) {
                 GameCharacter hero = characters[h];
-                System.out.println("\nH" + (h + 1) + " - " + hero.getCharacterName() + " (Level " + hero.getLevel() + ")");
-                java.util.Map<com.dungeonCrawler.items.EquipmentType, com.dungeonCrawler.items.Equipment> equipped = 
-                    hero.getInventory().getAllEquipped();
-                if (equipped.isEmpty()) {
-                    System.out.println("     [No equipment equipped]");
+                output.println("\nH" + (h + 1) + " - " + hero.getCharacterName() + " (Level " + hero.getLevel() + ")");
+                if (hero.getInventory().getEquippedCount() == 0) {
+                    output.println("     [No equipment equipped]");
                 } else {
-                    for (com.dungeonCrawler.items.Equipment eq : equipped.values()) {
-                        System.out.println("     ⚔️  " + eq.getType());
-                    }
+                    hero.getInventory().forEachEquipped(eq -> output.println("     ⚔️  " + eq.getType()));
+                    output.println("     Gear: " + hero.getInventory().getEquipmentStats());
                 }
             }
             
             // Display inventory slots
-            System.out.println("\n[INVENTORY SLOTS (0-20)]");
+            output.println("\n[INVENTORY SLOTS (0-20)]");
             for (int i = 0; i < inventorySlots.size(); i++) {
-                System.out.print("I" + i + ": ");
+                output.print("I" + i + ": ");
                 Object item = inventorySlots.get(i);
                 if (item == null) {
-                    System.out.println("[Empty]");
+                    output.println("[Empty]");
                 } else if (item instanceof com.dungeonCrawler.items.Equipment) {
                     com.dungeonCrawler.items.Equipment eq = (com.dungeonCrawler.items.Equipment) item;
-                    System.out.println("[EQ] " + eq.getType() + " (Level " + eq.getLevel() + ")");
+                    output.println("[EQ] " + eq.getType() + " (Level " + eq.getLevel() + ")");
                 } else if (item instanceof com.dungeonCrawler.items.Potion) {
                     com.dungeonCrawler.items.Potion p = (com.dungeonCrawler.items.Potion) item;
-                    System.out.println("[POTION] " + p.getType().getName() + " x" + p.getQuantity());
+                    output.println("[POTION] " + p.getType().getName() + " x" + p.getQuantity());
                 }
             }
             
             // Command input
-            System.out.println("\n[COMMANDS]");
-            System.out.println("  i#-h# : Equip/replace item at slot # to hero # OR use potion on hero (e.g., i3-h1)");
-            System.out.println("  i#-d  : Drop item at slot # (e.g., i7-d)");
-            System.out.println("  exit  : Exit inventory\n");
+            output.println("\n[COMMANDS]");
+            output.println("  i#-h# : Equip/replace item at slot # to hero # OR use potion on hero (e.g., i3-h1)");
+            output.println("  i#-d  : Drop item at slot # (e.g., i7-d)");
+            output.println("  optimize : Give every hero the best gear the party carries");
+            output.println("  exit  : Exit inventory\n");
             
-            System.out.print("Command: ");
-            String command = scanner.nextLine().trim();
+            String command = policy.nextInventoryCommand(inventorySlots, characters);
             
             if (command.equalsIgnoreCase("exit")) {
                 managing = false;
+            } else if (command.equalsIgnoreCase("optimize")) {
+                int changed = GearOptimizer.optimize(characters);
+                collectInventorySlots(inventorySlots, slotOwners);
+                output.println(changed == 0
+                    ? "Gear is already optimal.\n"
+                    : "✓ Optimized gear: " + changed + " slot(s) changed.\n");
             } else if (command.contains("-")) {
                 String[] parts = command.split("-");
                 if (parts.length != 2) {
-                    System.out.println("Invalid command format.\n");
+                    output.println("Invalid command format.\n");
                     continue;
                 }
                 
@@ -532,7 +502,7 @@ public class DungeonCrawlerApp {
                 String actionPart = parts[1].trim();
                 
                 if (!slotPart.startsWith("i")) {
-                    System.out.println("Invalid slot format. Use i# (e.g., i3).\n");
+                    output.println("Invalid slot format. Use i# (e.g., i3).\n");
                     continue;
                 }
                 
@@ -540,12 +510,12 @@ public class DungeonCrawlerApp {
                 try {
                     slotNum = Integer.parseInt(slotPart.substring(1));
                 } catch (NumberFormatException e) {
-                    System.out.println("Invalid slot number.\n");
+                    output.println("Invalid slot number.\n");
                     continue;
                 }
                 
                 if (slotNum < 0 || slotNum >= inventorySlots.size()) {
-                    System.out.println("Slot out of range (0-20).\n");
+                    output.println("Slot out of range (0-20).\n");
                     continue;
                 }
                 
@@ -555,7 +525,7 @@ public class DungeonCrawlerApp {
                 if (actionPart.equalsIgnoreCase("d")) {
                     // Drop action
                     if (slotItem == null) {
-                        System.out.println("That slot is empty.\n");
+                        output.println("That slot is empty.\n");
                     } else {
                         // remove from owner's inventory if present
                         if (slotOwner != null && slotItem instanceof com.dungeonCrawler.items.Equipment) {
@@ -568,7 +538,7 @@ public class DungeonCrawlerApp {
                         }
                         inventorySlots.set(slotNum, null);
                         slotOwners.set(slotNum, null);
-                        System.out.println("✓ Item dropped from slot " + slotNum + ".\n");
+                        output.println("✓ Item dropped from slot " + slotNum + ".\n");
                     }
                 } else if (actionPart.startsWith("h")) {
                     // Equip or use on hero
@@ -576,23 +546,23 @@ public class DungeonCrawlerApp {
                     try {
                         heroNum = Integer.parseInt(actionPart.substring(1));
                     } catch (NumberFormatException e) {
-                        System.out.println("Invalid hero number.\n");
+                        output.println("Invalid hero number.\n");
                         continue;
                     }
                     
                     if (heroNum < 1 || heroNum > characters.length) {
-                        System.out.println("Hero out of range (1-" + characters.length + ").\n");
+                        output.println("Hero out of range (1-" + characters.length + ").\n");
                         continue;
                     }
                     
                     GameCharacter targetHero = characters[heroNum - 1];
                     if (!targetHero.isCharacterAlive()) {
-                        System.out.println(targetHero.getCharacterName() + " is defeated.\n");
+                        output.println(targetHero.getCharacterName() + " is defeated.\n");
                         continue;
                     }
                     
                     if (slotItem == null) {
-                        System.out.println("That slot is empty.\n");
+                        output.println("That slot is empty.\n");
                     } else if (slotItem instanceof com.dungeonCrawler.items.Equipment) {
                         // Equip equipment
                         com.dungeonCrawler.items.Equipment eq = (com.dungeonCrawler.items.Equipment) slotItem;
@@ -602,7 +572,7 @@ public class DungeonCrawlerApp {
                         if (oldEq != null) {
                             // Only allow replacement if new equipment has higher level
                             if (eq.getLevel() <= oldEq.getLevel()) {
-                                System.out.println("Cannot replace: new " + eq.getType() + " is not higher level than equipped one.\n");
+                                output.println("Cannot replace: new " + eq.getType() + " is not higher level than equipped one.\n");
                                 continue;
                             }
 
@@ -624,7 +594,7 @@ public class DungeonCrawlerApp {
                                 slotOwners.set(slotNum, null);
                             }
 
-                            System.out.println("✓ " + targetHero.getCharacterName() + " equipped " + eq.getType() + " (replaced old one).\n");
+                            output.println("✓ " + targetHero.getCharacterName() + " equipped " + eq.getType() + " (replaced old one).\n");
                         } else {
                             // No old equipment: remove new eq from its owner inventory and equip
                             if (slotOwner != null) {
@@ -635,7 +605,7 @@ public class DungeonCrawlerApp {
                             // Clear the inventory slot
                             inventorySlots.set(slotNum, null);
                             slotOwners.set(slotNum, null);
-                            System.out.println("✓ " + targetHero.getCharacterName() + " equipped " + eq.getType() + ".\n");
+                            output.println("✓ " + targetHero.getCharacterName() + " equipped " + eq.getType() + ".\n");
                         }
                     } else if (slotItem instanceof com.dungeonCrawler.items.Potion) {
                         // Use potion on the selected hero
@@ -650,7 +620,7 @@ public class DungeonCrawlerApp {
                                 targetHero.restoreMana(restore);
                                 break;
                         }
-                        System.out.println("✓ " + targetHero.getCharacterName() + " used " + p.getType().getName() + ".\n");
+                        output.println("✓ " + targetHero.getCharacterName() + " used " + p.getType().getName() + ".\n");
 
                         // Remove one potion from owner's inventory if present
                         if (slotOwner != null) {
@@ -675,10 +645,10 @@ public class DungeonCrawlerApp {
                         }
                     }
                 } else {
-                    System.out.println("Unknown action. Use 'h' for equip/use or 'd' for drop.\n");
+                    output.println("Unknown action. Use 'h' for equip/use or 'd' for drop.\n");
                 }
             } else {
-                System.out.println("Invalid command. Use format: i#-h# or i#-d\n");
+                output.println("Invalid command. Use format: i#-h# or i#-d\n");
             }
         }
     }
@@ -687,7 +657,7 @@ public class DungeonCrawlerApp {
      * Process room exploration for all characters.
      */
     private void exploreRoom() {
-        System.out.println("\nThe party explores...\n");
+        output.println("\nThe party explores...\n");
         
         for (GameCharacter character : characters) {
             if (character.isCharacterAlive()) {
@@ -723,15 +693,13 @@ public class DungeonCrawlerApp {
      * Allow characters to use abilities.
      */
     private void useAbilities() {
-        System.out.println("\nCharacter Abilities:\n");
+        output.println("\nCharacter Abilities:\n");
         for (int i = 0; i < characters.length; i++) {
-            System.out.println((i + 1) + ". " + characters[i].getCharacterName() + " (" + characters[i].getCharacterClass() + ")");
+            output.println((i + 1) + ". " + characters[i].getCharacterName() + " (" + characters[i].getCharacterClass() + ")");
         }
-        System.out.println("0. Cancel");
+        output.println("0. Cancel");
         
-        System.out.print("\nSelect character: ");
-        int choice = scanner.nextInt();
-        scanner.nextLine();
+        int choice = policy.chooseCharacter(characters);
         
         if (choice > 0 && choice <= characters.length) {
             characters[choice - 1].useAbility();
@@ -742,50 +710,76 @@ public class DungeonCrawlerApp {
      * Display character status.
      */
     private void displayCharacterStatus() {
-        System.out.println("\n" + "=".repeat(80));
-        System.out.println("*** CHARACTER STATUS ***");
-        System.out.println("=".repeat(80) + "\n");
+        output.println("\n" + Banners.DOUBLE_LINE);
+        output.println("*** CHARACTER STATUS ***");
+        output.println(Banners.DOUBLE_LINE + "\n");
         // Show party gold pool
-        System.out.println("Party Gold: " + playerGold + " gold\n");
-        for (GameCharacter c : characters) {
-            System.out.println(c.getCharacterName() + " (" + c.getCharacterClass() + ")");
-            System.out.println("  Status: " + (c.isCharacterAlive() ? "ALIVE" : "DEFEATED"));
-            System.out.println("  Level: " + c.getLevel() + " | Experience: " + c.getExperience());
-            System.out.println("  Health: " + c.getHealth() + "/" + c.getMaxHealth());
-            System.out.println("  Mana: " + c.getMana() + "/" + c.getMaxMana());
-            System.out.println("  Battles Won: " + c.getBattlesWon() + " | Items Collected: " + c.getItemsCollected());
-            System.out.println();
+        output.println("Party Gold: " + playerGold + " gold\n");
+        for (GameCharacter hero : characters) {
+            CharacterSnapshot c = hero.snapshot();
+            output.println(c.getCharacterName() + " (" + c.getCharacterClass() + ")");
+            output.println("  Status: " + (c.isAlive() ? "ALIVE" : "DEFEATED"));
+            output.println("  Level: " + c.getLevel() + " | Experience: " + c.getExperience());
+            output.println("  Health: " + c.getHealth() + "/" + c.getMaxHealth());
+            output.println("  Mana: " + c.getMana() + "/" + c.getMaxMana());
+            output.println("  Battles Won: " + c.getBattlesWon() + " | Items Collected: " + c.getItemsCollected());
+            output.println();
         }
-        System.out.println("=".repeat(80) + "\n");
+        output.println(Banners.DOUBLE_LINE + "\n");
     }
     
     /**
      * Floor boss battle (every 5 floors).
      */
     private void playFloorBoss() {
-        engine.bossBattle(BossFactory.createFloorBoss(engine.getCurrentFloor()), scanner);
+        engine.bossBattle(BossFactory.createFloorBoss(engine.getCurrentFloor()), policy);
     }
     
     /**
      * Final boss battle (floor 15).
      */
     private void playFinalBoss() {
-        engine.bossBattle(BossFactory.createFinalBoss(), scanner);
+        engine.bossBattle(BossFactory.createFinalBoss(), policy);
     }
     
     /**
      * Main entry point.
+     * Options: --bot [seed] plays automatically, --script <file> replays recorded input
+     * (falling back to the console once the script runs out).
+     * A bot seed (or -Ddungeon.seed) makes the whole run reproducible.
      */
-    public static void main(String[] args) {
-        System.out.println("\n" + "=".repeat(80));
-        System.out.println("╔════════════════════════════════════════════════════════════════════════════════╗");
-        System.out.println("║               WELCOME TO THE DUNGEON CRAWLER ADVENTURE GAME!                  ║");
-        System.out.println("╚════════════════════════════════════════════════════════════════════════════════╝");
-        System.out.println("=".repeat(80) + "\n");
+    public static void main(String[] args) throws IOException {
+        OutputSink out = BufferedConsoleSink.stdout();
+        out.println("\n" + Banners.DOUBLE_LINE);
+        out.println("╔════════════════════════════════════════════════════════════════════════════════╗");
+        out.println("║               WELCOME TO THE DUNGEON CRAWLER ADVENTURE GAME!                  ║");
+        out.println("╚════════════════════════════════════════════════════════════════════════════════╝");
+        out.println(Banners.DOUBLE_LINE + "\n");
         
-        DungeonCrawlerApp game = new DungeonCrawlerApp();
-        game.play();
-        
-        System.out.println("\nThank you for playing! The adventure concludes...\n");
+        try {
+            DungeonCrawlerApp game = new DungeonCrawlerApp(createPolicy(args, out), out);
+            game.play();
+            
+            out.println("\nThank you for playing! The adventure concludes...\n");
+        } finally {
+            out.flush();
+        }
+    }
+    
+    /**
+     * Build the player policy selected on the command line; console prompts go to the
+     * game's sink so they stay in order with its text.
+     */
+    private static PlayerPolicy createPolicy(String[] args, OutputSink out) throws IOException {
+        if (args.length > 0 && args[0].equals("--bot")) {
+            if (args.length > 1) {
+                RandomStreams.setGlobalSeed(Long.parseLong(args[1]));
+            }
+            return new BotPolicy(RandomStreams.global().split());
+        }
+        if (args.length > 1 && args[0].equals("--script")) {
+            return ScriptedPolicy.fromFile(Paths.get(args[1]), new ConsolePolicy(new Scanner(System.in), out));
+        }
+        return new ConsolePolicy(new Scanner(System.in), out);
     }
 }
@@ -0,0 +1,77 @@
+package com.dungeonCrawler.engine;
+
+import com.dungeonCrawler.rooms.FloorLayout;
+import com.dungeonCrawler.rooms.RoomClaimQueue;
+import com.dungeonCrawler.rooms.RoomOption;
+import com.dungeonCrawler.rooms.ShopRoom;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable snapshot of where the game stands: the floor number, its layout, shop and
+ * rooms, and whether the game is still running.
+ *
+ * GameEngine publishes one of these through a single volatile reference and replaces it
+ * on every change, so a reader that takes one snapshot sees all of these values as they
+ * were at the same moment, without taking a lock.
+ *
+ * The mutable parts are the floor's RoomClaimQueue and its ShopRoom, which remembers
+ * whether it was visited; both are lock-free and shared by every snapshot of the floor.
+ */
+public final class FloorState {
+    private final int floor;
+    private final FloorLayout layout;
+    private final ShopRoom shopRoom;
+    private final List<RoomOption> rooms;
+    private final RoomClaimQueue claims;
+    private final boolean gameActive;
+
+    FloorState(int floor, FloorLayout layout, ShopRoom shopRoom, List<RoomOption> rooms,
+               RoomClaimQueue claims, boolean gameActive) {
+        this.floor = floor;
+        this.layout = layout;
+        this.shopRoom = shopRoom;
+        this.rooms = rooms;
+        this.claims = claims;
+        this.gameActive = gameActive;
+    }
+
+    /**
+     * A freshly prepared floor with the game running.
+     */
+    static FloorState prepared(int floor, FloorLayout layout, ShopRoom shopRoom, List<RoomOption> rooms) {
+        return new FloorState(floor, layout, shopRoom, Collections.unmodifiableList(rooms),
+            new RoomClaimQueue(rooms), true);
+    }
+
+    /**
+     * A floor with no rooms set up: before the first floor is generated, or past the last.
+     */
+    static FloorState empty(int floor, boolean gameActive) {
+        return new FloorState(floor, null, null, Collections.emptyList(), RoomClaimQueue.empty(), gameActive);
+    }
+
+    FloorState withGameActive(boolean active) {
+        return gameActive == active ? this : new FloorState(floor, layout, shopRoom, rooms, claims, active);
+    }
+
+    public int getFloor() { return floor; }
+
+    /**
+     * Layout of this floor (null before the first floor is set up and past the last one).
+     */
+    public FloorLayout getLayout() { return layout; }
+    public ShopRoom getShopRoom() { return shopRoom; }
+
+    /**
+     * This floor's room options, in layout order (read-only).
+     */
+    public List<RoomOption> getRooms() { return rooms; }
+
+    /**
+     * Hands this floor's rooms out to parties, each room once.
+     */
+    public RoomClaimQueue getClaims() { return claims; }
+    public boolean isShopAvailable() { return shopRoom != null && !shopRoom.isVisited(); }
+    public boolean isGameActive() { return gameActive; }
+}
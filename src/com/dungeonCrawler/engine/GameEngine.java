@@ -1,155 +1,252 @@
 package com.dungeonCrawler.engine;
 
+import com.dungeonCrawler.characters.CharacterActor;
 import com.dungeonCrawler.characters.GameCharacter;
 import com.dungeonCrawler.rooms.*;
 import com.dungeonCrawler.boss.Boss;
 import com.dungeonCrawler.boss.BossFactory;
 import com.dungeonCrawler.items.Potion;
+import com.dungeonCrawler.utils.Banners;
+import com.dungeonCrawler.utils.BufferedConsoleSink;
+import com.dungeonCrawler.utils.OutputSink;
+import com.dungeonCrawler.utils.RandomStreams;
 import java.util.*;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Main game engine that manages the dungeon crawl experience.
  * Handles multithreading, floor progression, room selection, and synchronization.
+ *
+ * Floor number, rooms, shop and the game-active flag live in one immutable FloorState
+ * behind a single atomic reference: reads are one volatile load and always consistent,
+ * and every change publishes a new state with compare-and-set. Floor transitions are
+ * additionally serialized with each other, since they also own the prefetch.
+ *
+ * Several parties can explore the same floor at once: each claims its next room from the
+ * floor's lock-free RoomClaimQueue, and the first party to find the floor used up moves
+ * everyone on with nextFloor(int).
  */
 public class GameEngine {
+    private static final AtomicInteger PREFETCH_THREADS = new AtomicInteger();
+
     private GameCharacter[] characters;
-    private int currentFloor;
     private int maxFloors;
-    private List<Room> currentFloorRooms;
-    private Room shopRoom;
-    private boolean shopVisited;
-    private Random random;
-    private boolean gameActive;
-    private ReentrantReadWriteLock lock;
+    private final AtomicReference<FloorState> state;
+    private final FloorGenerator floorGenerator;
+    private RandomStreams streams;
+    private SplittableRandom random;
+    private OutputSink output;
+    // Guards floor transitions and the prefetch fields below; never held by readers
+    private final Object transitionLock = new Object();
+    // Floor after the current one, being prepared in the background (null = none requested)
+    private Prefetch prefetch;
+    private volatile Executor prefetchExecutor;
+    private final AtomicInteger prefetchHits;
+    private final AtomicInteger prefetchMisses;
+    // Game loop's walk through the current floor: rooms explored and rooms last offered
+    private final BitSet explored = new BitSet();
+    private List<RoomOption> exploredRooms;
+    private final Map<RoomOption, Integer> offered = new IdentityHashMap<>();
     
     public GameEngine(GameCharacter[] characters, int maxFloors) {
+        this(characters, maxFloors, RandomStreams.global().fork());
+    }
+    
+    /**
+     * Create an engine whose floors, rooms and bosses all draw from the given streams,
+     * so the run is reproducible from the streams' seed.
+     */
+    public GameEngine(GameCharacter[] characters, int maxFloors, RandomStreams streams) {
+        this(characters, maxFloors, streams, FloorGenerator.ROOMS_PER_FLOOR);
+    }
+    
+    /**
+     * Create an engine whose floors have the given number of rooms (shared floors explored
+     * by many parties need more than the usual five).
+     */
+    public GameEngine(GameCharacter[] characters, int maxFloors, RandomStreams streams, int roomsPerFloor) {
         this.characters = characters;
-        this.currentFloor = 1;
         this.maxFloors = maxFloors;
-        this.currentFloorRooms = new ArrayList<>();
-        this.shopRoom = null;
-        this.random = new Random();
-        this.gameActive = true;
-        this.lock = new ReentrantReadWriteLock();
-        this.shopVisited = false;
+        this.state = new AtomicReference<>(FloorState.empty(1, true));
+        this.streams = streams;
+        this.random = streams.split();
+        this.floorGenerator = new FloorGenerator(random.nextLong(), roomsPerFloor);
+        this.output = BufferedConsoleSink.stdout();
+        this.prefetchExecutor = PrefetchHolder.EXECUTOR;
+        this.prefetchHits = new AtomicInteger();
+        this.prefetchMisses = new AtomicInteger();
+        stampFloorOnLogs(1);
     }
     
     /**
-     * Start the adventure for all characters using threads.
+     * Start the adventure: each character enters the dungeon as a task on the
+     * shared executor, and we wait for all of them to arrive.
      */
     public void startAdventure() {
-        System.out.println("\n" + "=".repeat(80));
-        System.out.println("*** WELCOME TO THE DUNGEON CRAWLER ***");
-        System.out.println("Three heroes venture into a dark dungeon filled with mysteries...");
-        System.out.println("=".repeat(80) + "\n");
+        output.println("\n" + Banners.DOUBLE_LINE);
+        output.println("*** WELCOME TO THE DUNGEON CRAWLER ***");
+        output.println("Three heroes venture into a dark dungeon filled with mysteries...");
+        output.println(Banners.DOUBLE_LINE + "\n");
         
-        // Start each character thread
-        Thread[] characterThreads = new Thread[characters.length];
+        CompletableFuture<?>[] arrivals = new CompletableFuture<?>[characters.length];
         for (int i = 0; i < characters.length; i++) {
-            characterThreads[i] = characters[i];
-            characterThreads[i].start();
+            arrivals[i] = new CharacterActor(characters[i], CombatExecutor::submit).enterDungeon();
         }
+        CompletableFuture.allOf(arrivals).join();
+    }
+    
+    /**
+     * Set up the current floor from scratch: rooms from its seeded layout (generated once,
+     * then cached) and a fresh shop. nextFloor does this by itself on every transition.
+     */
+    public void generateFloorRooms() {
+        synchronized (transitionLock) {
+            installFloor(takePrefetched(state.get().getFloor()));
+        }
+    }
+    
+    /**
+     * Publish a prepared floor (keeping the game-active flag) and start preparing the next
+     * one, dropping a prefetch of any other floor. Caller holds the transition lock.
+     */
+    private void installFloor(PreparedFloor prepared) {
+        FloorLayout layout = prepared.layout;
+        List<RoomOption> rooms = new ArrayList<>(layout.getRoomCount());
+        for (int i = 0; i < layout.getRoomCount(); i++) {
+            rooms.add(layout.option(i, null, prepared.shop));
+        }
+        FloorState floor = FloorState.prepared(layout.getFloor(), layout, prepared.shop, rooms);
+        state.updateAndGet(current -> floor.withGameActive(current.isGameActive()));
         
-        // Wait for all threads to complete
-        try {
-            for (Thread t : characterThreads) {
-                t.join();
-            }
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+        int next = floor.getFloor() + 1;
+        if (prefetch != null && prefetch.floor != next) {
+            prefetch.cancel();
+            prefetch = null;
+        }
+        if (next <= maxFloors && prefetch == null) {
+            prefetch = new Prefetch(next);
+            prefetch.future = CompletableFuture.supplyAsync(prefetch::run, prefetchExecutor);
         }
     }
     
     /**
-     * Generate rooms for the current floor.
+     * The given floor from the background prefetch: as is when it is ready, waited for when
+     * the worker is already preparing it, and otherwise prepared right here with the queued
+     * task cancelled. Only transitions that had a prefetch in flight count as hit or miss.
      */
-    public void generateFloorRooms() {
-        lock.writeLock().lock();
-        try {
-            currentFloorRooms.clear();
-            // reset per-floor shop visited flag
-            shopVisited = false;
-            
-            // Always have 5 base rooms + 1 boss room on floors 5, 10
-            boolean isBossFloor = (currentFloor % 5 == 0 && currentFloor < maxFloors) || currentFloor == maxFloors;
-            
-            // Generate 5 random rooms (with shop only once per floor)
-            shopRoom = new ShopRoom();
-            List<RoomType> roomTypes = new ArrayList<>();
-            
-            // Add random room types
-            for (int i = 0; i < 5; i++) {
-                if (i == random.nextInt(5)) {
-                    roomTypes.add(RoomType.SHOP);
-                } else {
-                    roomTypes.add(random.nextBoolean() ? RoomType.CHEST : RoomType.COMBAT);
-                }
+    private PreparedFloor takePrefetched(int floorNumber) {
+        Prefetch pending = prefetch;
+        if (pending != null && pending.floor == floorNumber) {
+            prefetch = null;
+            CompletableFuture<PreparedFloor> future = pending.future;
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                prefetchHits.incrementAndGet();
+                return future.join();
             }
-            
-            // Create room objects
-            for (RoomType type : roomTypes) {
-                switch(type) {
-                    case CHEST:
-                        currentFloorRooms.add(new ChestRoom());
-                        break;
-                    case COMBAT:
-                        currentFloorRooms.add(new CombatRoom(currentFloor));
-                        break;
-                    case SHOP:
-                        currentFloorRooms.add(shopRoom);
-                        break;
+            prefetchMisses.incrementAndGet();
+            if (!pending.cancel()) {
+                try {
+                    return future.join();
+                } catch (CompletionException e) {
+                    // the worker failed: prepare it here instead
                 }
             }
-            
-            // Rooms generated (debug output removed)
-            
-        } finally {
-            lock.writeLock().unlock();
         }
+        return prepareFloor(floorNumber);
+    }
+    
+    /**
+     * What the game loop needs before a floor starts: its layout and its shop. Runs on the
+     * prefetch pool, so it only touches the thread-safe floor generator and objects it
+     * creates itself.
+     */
+    private PreparedFloor prepareFloor(int floorNumber) {
+        FloorLayout layout = floorGenerator.generate(floorNumber);
+        ShopRoom shop = layout.hasShop() ? new ShopRoom(floorNumber, new SplittableRandom(layout.shopSeed())) : null;
+        return new PreparedFloor(layout, shop);
+    }
+    
+    /**
+     * Where the next floor is prepared; Runnable::run prepares it inline.
+     */
+    public void setPrefetchExecutor(Executor executor) {
+        this.prefetchExecutor = executor;
+    }
+    
+    /**
+     * Floor transitions where the prefetched floor was already prepared.
+     */
+    public int getPrefetchHits() { return prefetchHits.get(); }
+    
+    /**
+     * Floor transitions that had to prepare the floor on the game loop.
+     */
+    public int getPrefetchMisses() { return prefetchMisses.get(); }
+
+    /**
+     * Generate every floor of the campaign in parallel ahead of time, so floor
+     * transitions only hit the layout cache.
+     */
+    public void pregenerateFloors() {
+        floorGenerator.generateCampaign(maxFloors);
+    }
+
+    /**
+     * Current floor, rooms, shop and game flag as one consistent snapshot.
+     */
+    public FloorState getFloorState() {
+        return state.get();
+    }
+
+    /**
+     * Layout of the current floor (null before the first generateFloorRooms).
+     */
+    public FloorLayout getFloorLayout() {
+        return state.get().getLayout();
     }
 
     /**
      * Return shared shop room for the current floor (created in generateFloorRooms).
      */
-    public Room getShopRoom() {
-        return shopRoom;
+    public ShopRoom getShopRoom() {
+        return state.get().getShopRoom();
     }
 
     /**
      * Check whether shop is still available this floor.
      */
     public boolean isShopAvailable() {
-        return !shopVisited && shopRoom != null;
+        return state.get().isShopAvailable();
     }
-
+    
     /**
-     * Mark the shared shop as visited for this floor.
+     * Claim the next room of the current floor that no party has taken yet, or null once
+     * they are all taken. Lock-free; each room goes to exactly one caller.
      */
-    public void markShopVisited() {
-        this.shopVisited = true;
+    public RoomOption claimRoom() {
+        return state.get().getClaims().claim();
     }
     
     /**
-     * Get next available room for a character.
+     * Claim the next room of the current floor and build it, or null once all are taken.
      */
     public Room getNextRoom() {
-        lock.readLock().lock();
-        try {
-            if (!currentFloorRooms.isEmpty()) {
-                Room room = currentFloorRooms.get(0);
-                return room;
-            }
-            return null;
-        } finally {
-            lock.readLock().unlock();
-        }
+        RoomOption option = claimRoom();
+        return option == null ? null : option.materialize();
     }
     
     /**
-     * Character uses a room and moves to next floor if needed.
+     * Character uses a room. Not serialized by the engine: rooms lock their own state
+     * where they need to, so parties in different rooms never wait on each other.
      */
-    public synchronized void processRoom(GameCharacter character, Room room) {
+    public void processRoom(GameCharacter character, Room room) {
         if (room != null) {
             room.enter(character);
         }
@@ -159,17 +256,17 @@ public class GameEngine {
      * Rest point between rooms - heal, restore mana, manage inventory.
      */
     public synchronized void restAtRestPoint(GameCharacter character, Scanner scanner) {
-        System.out.println("\n" + "-".repeat(80));
-        System.out.println(character.getCharacterName() + " reached a rest point!");
-        System.out.println("-".repeat(80));
-        System.out.println("\nOptions:");
-        System.out.println("1. Heal (costs 25 gold per 50 HP)");
-        System.out.println("2. Restore Mana (costs 25 gold per 50 Mana)");
-        System.out.println("3. View/Use Inventory");
-        System.out.println("4. Continue Adventure");
-        System.out.println("5. Rest (skip turn)");
+        output.println("\n" + Banners.SINGLE_LINE);
+        output.println(character.getCharacterName() + " reached a rest point!");
+        output.println(Banners.SINGLE_LINE);
+        output.println("\nOptions:");
+        output.println("1. Heal (costs 25 gold per 50 HP)");
+        output.println("2. Restore Mana (costs 25 gold per 50 Mana)");
+        output.println("3. View/Use Inventory");
+        output.println("4. Continue Adventure");
+        output.println("5. Rest (skip turn)");
         
-        System.out.print("\nChoice: ");
+        output.print("\nChoice: ");
         int choice = scanner.nextInt();
         scanner.nextLine();
         
@@ -178,9 +275,9 @@ public class GameEngine {
                 if (character.getHealth() < character.getMaxHealth()) {
                     if (character.spendGold(25)) {
                         character.heal(50);
-                        System.out.println(character.getCharacterName() + " healed!");
+                        output.println(character.getCharacterName() + " healed!");
                     } else {
-                        System.out.println("Not enough gold!");
+                        output.println("Not enough gold!");
                     }
                 }
                 break;
@@ -188,9 +285,9 @@ public class GameEngine {
                 if (character.getMana() < character.getMaxMana()) {
                     if (character.spendGold(25)) {
                         character.restoreMana(50);
-                        System.out.println(character.getCharacterName() + "'s mana restored!");
+                        output.println(character.getCharacterName() + "'s mana restored!");
                     } else {
-                        System.out.println("Not enough gold!");
+                        output.println("Not enough gold!");
                     }
                 }
                 break;
@@ -198,30 +295,31 @@ public class GameEngine {
                 displayInventory(character);
                 break;
             case 4:
-                System.out.println(character.getCharacterName() + " continues the adventure!");
+                output.println(character.getCharacterName() + " continues the adventure!");
                 break;
             case 5:
-                System.out.println(character.getCharacterName() + " takes a short rest...");
+                output.println(character.getCharacterName() + " takes a short rest...");
                 break;
         }
-        System.out.println("-".repeat(80) + "\n");
+        output.println(Banners.SINGLE_LINE + "\n");
     }
     
     /**
      * Display and manage character inventory.
      */
     private void displayInventory(GameCharacter character) {
-        System.out.println("\n" + character.getCharacterName() + "'s Inventory:");
-        System.out.println("  Equipment: " + character.getInventory().getAllEquipped().size());
-        System.out.println("  Potions: " + character.getInventory().getAllPotions().size());
-        System.out.println("  Gold: " + character.getGold());
+        output.println("\n" + character.getCharacterName() + "'s Inventory:");
+        output.println("  Equipment: " + character.getInventory().getEquippedCount());
+        output.println("  Potions: " + character.getInventory().getPotionStackCount());
+        output.println("  Gold: " + character.getGold());
         
         // Show potions available to use
         List<Potion> potions = character.getInventory().getAllPotions();
         if (!potions.isEmpty()) {
-            System.out.println("\nAvailable Potions:");
-            for (int i = 0; i < potions.size(); i++) {
-                System.out.println((i + 1) + ". " + potions.get(i).toString());
+            output.println("\nAvailable Potions:");
+            int i = 0;
+            for (Potion potion : potions) {
+                output.println((++i) + ". " + potion.toString());
             }
         }
     }
@@ -229,61 +327,244 @@ public class GameEngine {
     /**
      * Handle boss encounter.
      */
-    public void bossBattle(Boss boss, Scanner scanner) {
-        System.out.println("\n" + "=".repeat(80));
+    public void bossBattle(Boss boss, PlayerPolicy policy) {
+        boss.setOutput(output);
+        output.println("\n" + Banners.DOUBLE_LINE);
         boss.entrance();
-        System.out.println("Press Enter to begin the battle...");
-        scanner.nextLine();
+        policy.awaitContinue("Press Enter to begin the battle...\n");
         
         // Battle simulation
-        while (!boss.isDefeated() && gameActive) {
-            boolean anyAlive = false;
-            for (GameCharacter c : characters) {
-                if (c.isCharacterAlive()) {
-                    anyAlive = true;
-                    break;
-                }
+        while (fightBossRound(boss)) {
+            if (!boss.isDefeated()) {
+                policy.awaitContinue("Press Enter to continue...");
             }
-            
-            if (!anyAlive) {
-                System.out.println("\n*** ALL HEROES HAVE FALLEN ***");
-                gameActive = false;
+        }
+    }
+    
+    /**
+     * Handle boss encounter without pausing between rounds (headless runs).
+     */
+    public void runBossBattle(Boss boss) {
+        boss.setOutput(output);
+        while (fightBossRound(boss)) {
+            // keep fighting until the boss or the party falls
+        }
+    }
+    
+    /**
+     * Play a single boss round. Returns false once the battle is over.
+     */
+    private boolean fightBossRound(Boss boss) {
+        if (boss.isDefeated() || !isGameActive()) {
+            return false;
+        }
+        
+        boolean anyAlive = false;
+        for (GameCharacter c : characters) {
+            if (c.isCharacterAlive()) {
+                anyAlive = true;
                 break;
             }
-            
-            boss.battle(characters);
-            
-            if (!boss.isDefeated()) {
-                System.out.print("Press Enter to continue...");
-                scanner.nextLine();
+        }
+        
+        if (!anyAlive) {
+            output.println("\n*** ALL HEROES HAVE FALLEN ***");
+            setGameActive(false);
+            return false;
+        }
+        
+        boss.battle(characters);
+        for (GameCharacter c : characters) {
+            c.getStatusEffects().tick();
+        }
+        return true;
+    }
+    
+    /**
+     * Up to three rooms for the player to choose from, drawn at random from the rooms the
+     * party can reach on the current floor: the entrance and every room joined to the
+     * entrance or to a room already explored, skipping explored ones.
+     * Rules:
+     *  - For each round, chest and shop may be included at most once in the options
+     *  - Shop will only be included if a shop is available this floor
+     * Empty once nothing is left to reach. Pass the chosen option to exploreRoom.
+     * Options are descriptors; a room is only built when its option is materialized.
+     * Called from the game loop thread only.
+     */
+    public List<RoomOption> generateRoomOptions(Set<GameCharacter> restingHeroes) {
+        FloorState floor = state.get();
+        FloorLayout layout = floor.getLayout();
+        if (exploredRooms != floor.getRooms()) {
+            // a new floor was installed since the last call
+            exploredRooms = floor.getRooms();
+            explored.clear();
+        }
+        offered.clear();
+        List<RoomOption> options = new ArrayList<>(3);
+        if (layout == null) {
+            return options;
+        }
+        List<Integer> reachable = new ArrayList<>();
+        for (int room = 0; room < layout.getRoomCount(); room++) {
+            if (!explored.get(room) && isReachable(layout, room)) {
+                reachable.add(room);
             }
         }
+
+        boolean chestIncluded = false;
+        boolean shopIncluded = false;
+
+        while (options.size() < 3 && !reachable.isEmpty()) {
+            int room = reachable.remove(random.nextInt(reachable.size()));
+            RoomType type = layout.getType(room);
+
+            if (type == RoomType.SHOP) {
+                if (shopIncluded || !floor.isShopAvailable()) continue;
+                shopIncluded = true;
+            } else if (type == RoomType.CHEST) {
+                if (chestIncluded) continue; // skip duplicate chest in same round
+                chestIncluded = true;
+            }
+            RoomOption option = layout.option(room, restingHeroes, floor.getShopRoom());
+            offered.put(option, room);
+            options.add(option);
+        }
+        return options;
+    }
+
+    /**
+     * Record that the party explored the room behind one of the last offered options.
+     */
+    public void exploreRoom(RoomOption option) {
+        Integer room = offered.get(option);
+        if (room != null) {
+            explored.set(room);
+        }
+    }
+
+    private boolean isReachable(FloorLayout layout, int room) {
+        int entrance = layout.getEntrance();
+        if (room == entrance) {
+            return true;
+        }
+        for (int k = 0; k < layout.getExitCount(room); k++) {
+            int next = layout.getExit(room, k);
+            if (next == entrance || explored.get(next)) {
+                return true;
+            }
+        }
+        return false;
     }
     
     /**
      * Advance to next floor.
      */
     public void nextFloor() {
-        lock.writeLock().lock();
-        try {
-            currentFloor++;
-            if (currentFloor <= maxFloors) {
-                System.out.println("\n[ADVANCING TO FLOOR " + currentFloor + "]");
-                generateFloorRooms();
+        synchronized (transitionLock) {
+            advanceFrom(state.get().getFloor());
+        }
+    }
+    
+    /**
+     * Advance past the given floor unless another party already has. Returns whether this
+     * call moved the game on, so parties that all find a floor used up advance it once.
+     */
+    public boolean nextFloor(int fromFloor) {
+        synchronized (transitionLock) {
+            if (state.get().getFloor() != fromFloor) {
+                return false;
             }
-        } finally {
-            lock.writeLock().unlock();
+            advanceFrom(fromFloor);
+            return true;
+        }
+    }
+    
+    /**
+     * Publish the floor after the given one. Caller holds the transition lock.
+     */
+    private void advanceFrom(int floor) {
+        int next = floor + 1;
+        stampFloorOnLogs(next);
+        if (next <= maxFloors) {
+            output.println("\n[ADVANCING TO FLOOR " + next + "]");
+            installFloor(takePrefetched(next));
+        } else {
+            state.updateAndGet(current -> FloorState.empty(next, current.isGameActive()));
+        }
+    }
+    
+    /**
+     * Tag subsequent battle log events of every hero with the given floor.
+     */
+    private void stampFloorOnLogs(int floor) {
+        for (GameCharacter c : characters) {
+            c.getBattleLog().setFloor(floor);
         }
     }
     
     // Getters
-    public int getCurrentFloor() { return currentFloor; }
+    public int getCurrentFloor() { return state.get().getFloor(); }
     public int getMaxFloors() { return maxFloors; }
-    public boolean isGameActive() { return gameActive; }
-    public void setGameActive(boolean active) { this.gameActive = active; }
+    public boolean isGameActive() { return state.get().isGameActive(); }
+    public void setGameActive(boolean active) { state.updateAndGet(current -> current.withGameActive(active)); }
     public GameCharacter[] getCharacters() { return characters; }
+    public RandomStreams getRandomStreams() { return streams; }
+    public OutputSink getOutput() { return output; }
+
+    /**
+     * Where engine and boss text goes; OutputSink.NULL silences it (headless runs).
+     */
+    public void setOutput(OutputSink output) { this.output = output; }
     
-    private enum RoomType {
-        CHEST, COMBAT, SHOP
+    private static final class PreparedFloor {
+        final FloorLayout layout;
+        final ShopRoom shop;
+
+        PreparedFloor(FloorLayout layout, ShopRoom shop) {
+            this.layout = layout;
+            this.shop = shop;
+        }
+    }
+
+    /**
+     * One background preparation of a floor. The worker and the game loop race to start
+     * it, so a floor is never prepared twice: whoever loses either skips it (worker) or
+     * waits for the result (game loop).
+     */
+    private final class Prefetch {
+        final int floor;
+        final AtomicBoolean started = new AtomicBoolean();
+        CompletableFuture<PreparedFloor> future;
+
+        Prefetch(int floor) {
+            this.floor = floor;
+        }
+
+        PreparedFloor run() {
+            return started.compareAndSet(false, true) ? prepareFloor(floor) : null;
+        }
+
+        /**
+         * Stop the task if the worker has not started it. Returns false if it is running
+         * or done.
+         */
+        boolean cancel() {
+            if (!started.compareAndSet(false, true)) {
+                return false;
+            }
+            future.cancel(false);
+            return true;
+        }
+    }
+
+    // Small daemon pool shared by every engine, so parallel campaigns do not queue their
+    // prefetches behind one worker; created on first use
+    private static final class PrefetchHolder {
+        static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+            Math.max(1, Runtime.getRuntime().availableProcessors() / 2), r -> {
+                Thread t = new Thread(r, "floor-prefetch-" + PREFETCH_THREADS.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
     }
 }
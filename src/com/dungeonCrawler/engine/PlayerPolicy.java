@@ -0,0 +1,49 @@
+package com.dungeonCrawler.engine;
+
+import com.dungeonCrawler.characters.GameCharacter;
+import com.dungeonCrawler.items.Equipment;
+import com.dungeonCrawler.rooms.RoomOption;
+import java.util.List;
+
+/**
+ * Source of every player decision in the game loop.
+ * DungeonCrawlerApp and GameEngine ask the policy instead of reading a Scanner,
+ * so the same loop can be driven by a person, a recorded script or a bot.
+ */
+public interface PlayerPolicy {
+    /**
+     * Main floor menu: 1 = explore, 2 = inventory, 3 = status, 4 = rest.
+     */
+    int chooseMainAction(GameCharacter[] party, boolean restAvailable);
+
+    /**
+     * Pick one of the generated room options (1-based).
+     */
+    int chooseRoom(List<RoomOption> options, GameCharacter[] party);
+
+    /**
+     * Pick a shop item to buy (1-based) or items.size() + 1 to leave.
+     */
+    int chooseShopItem(List<Equipment> items, List<Integer> prices, int partyGold);
+
+    /**
+     * Next inventory command (i#-h#, i#-d, optimize or exit) for the given slot view.
+     */
+    String nextInventoryCommand(List<Object> slots, GameCharacter[] party);
+
+    /**
+     * Pick a party member (1-based), or 0 to cancel.
+     */
+    int chooseCharacter(GameCharacter[] party);
+
+    /**
+     * "Press Enter" style pause between screens.
+     */
+    void awaitContinue(String prompt);
+
+    /**
+     * Release any input resources held by the policy.
+     */
+    default void close() {
+    }
+}
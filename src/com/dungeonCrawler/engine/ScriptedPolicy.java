@@ -0,0 +1,98 @@
+package com.dungeonCrawler.engine;
+
+import com.dungeonCrawler.characters.GameCharacter;
+import com.dungeonCrawler.items.Equipment;
+import com.dungeonCrawler.rooms.RoomOption;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Replays a recorded session: every decision consumes the next line of the script,
+ * exactly as the console would consume a line of stdin (so existing input files
+ * such as test_input.txt can be replayed unchanged).
+ * When the script runs out, decisions go to the fallback policy if one was given.
+ */
+public class ScriptedPolicy implements PlayerPolicy {
+    private final Deque<String> lines;
+    private final PlayerPolicy fallback;
+
+    public ScriptedPolicy(List<String> lines, PlayerPolicy fallback) {
+        this.lines = new ArrayDeque<>(lines);
+        this.fallback = fallback;
+    }
+
+    /**
+     * Load a script file, one answer per line.
+     */
+    public static ScriptedPolicy fromFile(Path script, PlayerPolicy fallback) throws IOException {
+        return new ScriptedPolicy(Files.readAllLines(script, StandardCharsets.UTF_8), fallback);
+    }
+
+    @Override
+    public int chooseMainAction(GameCharacter[] party, boolean restAvailable) {
+        if (lines.isEmpty()) return fallback().chooseMainAction(party, restAvailable);
+        return nextInt();
+    }
+
+    @Override
+    public int chooseRoom(List<RoomOption> options, GameCharacter[] party) {
+        if (lines.isEmpty()) return fallback().chooseRoom(options, party);
+        return nextInt();
+    }
+
+    @Override
+    public int chooseShopItem(List<Equipment> items, List<Integer> prices, int partyGold) {
+        if (lines.isEmpty()) return fallback().chooseShopItem(items, prices, partyGold);
+        return nextInt();
+    }
+
+    @Override
+    public String nextInventoryCommand(List<Object> slots, GameCharacter[] party) {
+        if (lines.isEmpty()) return fallback().nextInventoryCommand(slots, party);
+        return lines.poll().trim();
+    }
+
+    @Override
+    public int chooseCharacter(GameCharacter[] party) {
+        if (lines.isEmpty()) return fallback().chooseCharacter(party);
+        return nextInt();
+    }
+
+    @Override
+    public void awaitContinue(String prompt) {
+        if (lines.isEmpty()) {
+            fallback().awaitContinue(prompt);
+            return;
+        }
+        lines.poll();
+    }
+
+    @Override
+    public void close() {
+        if (fallback != null) {
+            fallback.close();
+        }
+    }
+
+    public int getRemainingLines() { return lines.size(); }
+
+    private int nextInt() {
+        try {
+            return Integer.parseInt(lines.poll().trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private PlayerPolicy fallback() {
+        if (fallback == null) {
+            throw new IllegalStateException("Script exhausted and no fallback policy configured");
+        }
+        return fallback;
+    }
+}
@@ -0,0 +1,85 @@
+package com.dungeonCrawler.items;
+
+import java.util.Collection;
+
+/**
+ * Combined combat bonuses of a hero's equipped items (immutable).
+ * Weapons and gloves add attack, helmet, chestplate and shield add defence,
+ * boots add dodge chance. Inventory keeps one of these per hero and rebuilds it
+ * only when an item is equipped or removed, so combat reads it for free.
+ */
+public final class EquipmentStats {
+    public static final EquipmentStats NONE = new EquipmentStats(0, 0, 0);
+
+    /** Highest dodge chance gear can give, in percent. */
+    public static final int MAX_DODGE = 50;
+
+    private final int attack;
+    private final int defence;
+    private final int dodge;
+
+    private EquipmentStats(int attack, int defence, int dodge) {
+        this.attack = attack;
+        this.defence = defence;
+        this.dodge = dodge;
+    }
+
+    /**
+     * Sum the bonuses of the given equipped items.
+     */
+    public static EquipmentStats of(Collection<Equipment> equipped) {
+        if (equipped.isEmpty()) {
+            return NONE;
+        }
+        int attack = 0;
+        int defence = 0;
+        int dodge = 0;
+        for (Equipment item : equipped) {
+            EquipmentStats stats = of(item);
+            attack += stats.attack;
+            defence += stats.defence;
+            dodge += stats.dodge;
+        }
+        return new EquipmentStats(attack, defence, Math.min(dodge, MAX_DODGE));
+    }
+
+    /**
+     * Bonuses a single item gives when equipped.
+     */
+    public static EquipmentStats of(Equipment item) {
+        int value = item.getType().getValue();
+        int level = item.getLevel();
+        switch (item.getType()) {
+            case SWORD:
+            case DAGGER:
+            case STAFF:
+                return new EquipmentStats(value / 5 + level / 4, 0, 0);
+            case GLOVES:
+                return new EquipmentStats(1 + level / 10, 0, 0);
+            case HELMET:
+            case CHESTPLATE:
+            case SHIELD:
+                return new EquipmentStats(0, value / 10 + level / 10, 0);
+            case BOOTS:
+                return new EquipmentStats(0, 0, Math.min(value + level / 2, MAX_DODGE));
+            default:
+                return NONE;
+        }
+    }
+
+    /**
+     * Damage after this defence; at least 1 point always gets through.
+     */
+    public int reduceDamage(int incoming) {
+        return Math.max(1, incoming - defence);
+    }
+
+    public int getAttack() { return attack; }
+    public int getDefence() { return defence; }
+    public int getDodge() { return dodge; }
+
+    @Override
+    public String toString() {
+        return "+" + attack + " ATK, +" + defence + " DEF, " + dodge + "% dodge";
+    }
+}
@@ -1,163 +1,539 @@
 package com.dungeonCrawler.items;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
 
 /**
  * Inventory now separates equipped items from bag (backpack) items.
  * Bag can hold multiple equipment of the same type.
- * Thread-safe for concurrent access.
+ * Thread-safe for concurrent access: guarded by a StampedLock. Single-value reads
+ * (equipped slot, sizes, counts) are optimistic and never block or contend with each
+ * other; copies and forEach take the shared read lock; changes take the write lock.
+ * The lock is not reentrant, so forEach actions must not modify this inventory.
+ * Listeners are called after the write lock is released, so they may read or change it.
+ *
+ * Everything is indexed by enum: one equipped slot and one bag bucket per
+ * EquipmentType, and one potion stack per PotionType, so adding, using, equipping
+ * and removing an item are O(1) however full the inventory is.
+ *
+ * Every change bumps a version number and is published to the registered
+ * InventoryListeners, so callers learn exactly what was added or removed without
+ * copying and diffing. For reading, forEach methods iterate under the lock without
+ * copying. The view methods return live, read-only views that are not locked: they are
+ * only safe while no other thread can modify this inventory.
  */
 public class Inventory {
+    private static final int DEFAULT_CAPACITY = 50;
+
     // Equipped items: one per EquipmentType
-    private Map<EquipmentType, Equipment> equipped;
-    // Bag/backpack: can contain multiple equipments (including duplicates by type)
-    private List<Equipment> bag;
-    private List<Potion> potions;
+    private final Map<EquipmentType, Equipment> equipped;
+    // Bag/backpack: a bucket per type; each bucket keeps insertion order
+    private final Map<EquipmentType, Set<Equipment>> bag;
+    // One stack per potion type
+    private final Map<Potion.PotionType, Potion> potions;
+    private final StampedLock lock;
+    private final List<InventoryListener> listeners;
+    // Bonuses of the equipped items, rebuilt only when an equipped slot changes
+    private volatile EquipmentStats equipmentStats;
+    private long version;
+    private int bagSize;
     private int capacity;
     private int currentSize;
     
     public Inventory() {
-        this.equipped = new HashMap<>();
-        this.bag = new ArrayList<>();
-        this.potions = new ArrayList<>();
-        this.capacity = 50;
+        this(DEFAULT_CAPACITY);
+    }
+    
+    public Inventory(int capacity) {
+        this.equipped = new EnumMap<>(EquipmentType.class);
+        this.bag = new EnumMap<>(EquipmentType.class);
+        for (EquipmentType type : EquipmentType.values()) {
+            bag.put(type, new LinkedHashSet<>());
+        }
+        this.potions = new EnumMap<>(Potion.PotionType.class);
+        this.lock = new StampedLock();
+        this.listeners = new CopyOnWriteArrayList<>();
+        this.equipmentStats = EquipmentStats.NONE;
+        this.version = 0;
+        this.bagSize = 0;
+        this.capacity = capacity;
         this.currentSize = 0;
     }
     
     /**
      * Add equipment to the bag (thread-safe). Does not equip.
      */
-    public synchronized boolean addEquipment(Equipment item) {
-        if (currentSize >= capacity) {
-            return false;
+    public boolean addEquipment(Equipment item) {
+        InventoryChange change;
+        long stamp = lock.writeLock();
+        try {
+            if (currentSize >= capacity) {
+                return false;
+            }
+            if (!bag.get(item.getType()).add(item)) {
+                return false; // already in the bag
+            }
+            bagSize++;
+            currentSize++;
+            change = record(InventoryChange.Kind.EQUIPMENT_ADDED, item, null, 0);
+        } finally {
+            lock.unlockWrite(stamp);
         }
-        bag.add(item);
-        currentSize++;
+        notifyListeners(change);
         return true;
     }
     
     /**
      * Add potion to inventory (thread-safe).
      */
-    public synchronized boolean addPotion(Potion potion) {
-        for (Potion p : potions) {
-            if (p.getType() == potion.getType()) {
-                p.setQuantity(p.getQuantity() + potion.getQuantity());
-                return true;
+    public boolean addPotion(Potion potion) {
+        InventoryChange change;
+        long stamp = lock.writeLock();
+        try {
+            Potion stack = potions.get(potion.getType());
+            if (stack != null) {
+                stack.setQuantity(stack.getQuantity() + potion.getQuantity());
+            } else {
+                if (currentSize >= capacity) {
+                    return false;
+                }
+                potions.put(potion.getType(), potion);
+                currentSize++;
             }
+            change = record(InventoryChange.Kind.POTION_ADDED, null, potion.getType(), potion.getQuantity());
+        } finally {
+            lock.unlockWrite(stamp);
         }
-        if (currentSize >= capacity) {
-            return false;
-        }
-        potions.add(potion);
-        currentSize++;
+        notifyListeners(change);
         return true;
     }
     
     /**
      * Unequip equipment of the given type (remove from equipped slots).
      */
-    public synchronized Equipment removeEquipped(EquipmentType type) {
-        if (equipped.containsKey(type)) {
-            Equipment removed = equipped.remove(type);
-            // returned equipment goes back to bag manually by caller if desired
-            currentSize--;
-            return removed;
+    public Equipment removeEquipped(EquipmentType type) {
+        Equipment removed;
+        InventoryChange change = null;
+        long stamp = lock.writeLock();
+        try {
+            removed = equipped.remove(type);
+            if (removed != null) {
+                // returned equipment goes back to bag manually by caller if desired;
+                // equipped items are not counted in currentSize, so nothing to release
+                equipmentStats = EquipmentStats.of(equipped.values());
+                change = record(InventoryChange.Kind.UNEQUIPPED, removed, null, 0);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
         }
-        return null;
+        notifyListeners(change);
+        return removed;
+    }
+
+    /**
+     * Move the equipped item of this type back into the bag. Returns it, or null when
+     * nothing is equipped there or the bag is full (the item then stays equipped).
+     */
+    public Equipment unequip(EquipmentType type) {
+        Equipment worn;
+        InventoryChange change;
+        long stamp = lock.writeLock();
+        try {
+            worn = equipped.get(type);
+            if (worn == null || currentSize >= capacity || !bag.get(type).add(worn)) {
+                return null;
+            }
+            equipped.remove(type);
+            bagSize++;
+            currentSize++;
+            equipmentStats = EquipmentStats.of(equipped.values());
+            change = record(InventoryChange.Kind.UNEQUIPPED, worn, null, 0);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        notifyListeners(change);
+        return worn;
     }
 
     /**
      * Remove a specific equipment instance from the bag.
      */
-    public synchronized Equipment removeEquipmentInstance(Equipment item) {
-        if (bag.remove(item)) {
+    public Equipment removeEquipmentInstance(Equipment item) {
+        InventoryChange change;
+        long stamp = lock.writeLock();
+        try {
+            if (!removeFromBag(item)) {
+                return null;
+            }
             currentSize--;
-            return item;
+            change = record(InventoryChange.Kind.EQUIPMENT_REMOVED, item, null, 0);
+        } finally {
+            lock.unlockWrite(stamp);
         }
-        return null;
+        notifyListeners(change);
+        return item;
     }
     
     /**
-     * Use a potion from inventory.
+     * Use a potion from inventory. Returns the stack after use, or null if there is none.
      */
-    public synchronized Potion usePotion(Potion.PotionType type) {
-        for (Potion p : new ArrayList<>(potions)) {
-            if (p.getType() == type) {
-                if (p.getQuantity() > 0) {
-                    p.use();
-                    if (p.getQuantity() == 0) {
-                        potions.remove(p);
-                        currentSize--;
-                    }
-                    return p;
-                }
+    public Potion usePotion(Potion.PotionType type) {
+        Potion stack;
+        InventoryChange change;
+        long stamp = lock.writeLock();
+        try {
+            stack = potions.get(type);
+            if (stack == null || stack.getQuantity() <= 0) {
+                return null;
+            }
+            stack.use();
+            if (stack.getQuantity() == 0) {
+                potions.remove(type);
+                currentSize--;
+            }
+            change = record(InventoryChange.Kind.POTION_USED, null, type, 1);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        notifyListeners(change);
+        return stack;
+    }
+    
+    /**
+     * Number of potions of the given type.
+     */
+    public int getPotionCount(Potion.PotionType type) {
+        long stamp = lock.tryOptimisticRead();
+        Potion stack = potions.get(type);
+        int count = stack != null ? stack.getQuantity() : 0;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                stack = potions.get(type);
+                count = stack != null ? stack.getQuantity() : 0;
+            } finally {
+                lock.unlockRead(stamp);
             }
         }
-        return null;
+        return count;
     }
     
     /**
      * Get currently equipped item by type.
      */
-    public synchronized Equipment getEquipped(EquipmentType type) {
-        return equipped.get(type);
+    public Equipment getEquipped(EquipmentType type) {
+        long stamp = lock.tryOptimisticRead();
+        Equipment item = equipped.get(type);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                item = equipped.get(type);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return item;
+    }
+
+    /**
+     * Combined bonuses of the equipped items. Cached: reading it never locks or iterates.
+     */
+    public EquipmentStats getEquipmentStats() {
+        return equipmentStats;
     }
 
     /**
      * Get all equipped items.
      */
-    public synchronized Map<EquipmentType, Equipment> getAllEquipped() {
-        return new HashMap<>(equipped);
+    public Map<EquipmentType, Equipment> getAllEquipped() {
+        long stamp = lock.readLock();
+        try {
+            return new EnumMap<>(equipped);
+        } finally {
+            lock.unlockRead(stamp);
+        }
     }
 
     /**
-     * Get all bag (unequipped) equipment.
+     * Get all bag (unequipped) equipment, grouped by type.
      */
-    public synchronized List<Equipment> getBagEquipment() {
-        return new ArrayList<>(bag);
+    public List<Equipment> getBagEquipment() {
+        long stamp = lock.readLock();
+        try {
+            List<Equipment> items = new ArrayList<>(bagSize);
+            for (Set<Equipment> bucket : bag.values()) {
+                items.addAll(bucket);
+            }
+            return items;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Get bag equipment of one type.
+     */
+    public List<Equipment> getBagEquipment(EquipmentType type) {
+        long stamp = lock.readLock();
+        try {
+            return new ArrayList<>(bag.get(type));
+        } finally {
+            lock.unlockRead(stamp);
+        }
     }
 
     /**
      * Equip an equipment from the bag. Returns the previously equipped item (if any).
      * Caller is responsible for placing the returned item back into a bag (addEquipment).
      */
-    public synchronized Equipment equipEquipment(Equipment item) {
-        // remove from bag if present
-        boolean removed = bag.remove(item);
-        if (!removed) return null;
-        currentSize--;
-        Equipment prev = equipped.put(item.getType(), item);
+    public Equipment equipEquipment(Equipment item) {
+        Equipment prev;
+        InventoryChange change;
+        long stamp = lock.writeLock();
+        try {
+            // remove from bag if present
+            if (!removeFromBag(item)) return null;
+            currentSize--;
+            prev = equipped.put(item.getType(), item);
+            equipmentStats = EquipmentStats.of(equipped.values());
+            change = record(InventoryChange.Kind.EQUIPPED, item, null, 0);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        notifyListeners(change);
         return prev;
     }
 
     /**
      * Get all potions.
      */
-    public synchronized List<Potion> getAllPotions() {
-        return new ArrayList<>(potions);
+    public List<Potion> getAllPotions() {
+        long stamp = lock.readLock();
+        try {
+            return new ArrayList<>(potions.values());
+        } finally {
+            lock.unlockRead(stamp);
+        }
     }
     
     /**
      * Check if inventory has space.
      */
-    public synchronized boolean hasSpace() {
-        return currentSize < capacity;
+    public boolean hasSpace() {
+        return getCurrentSize() < capacity;
     }
     
     /**
      * Clear inventory.
      */
-    public synchronized void clear() {
-        equipped.clear();
-        bag.clear();
-        potions.clear();
-        currentSize = 0;
+    public void clear() {
+        InventoryChange change;
+        long stamp = lock.writeLock();
+        try {
+            equipped.clear();
+            for (Set<Equipment> bucket : bag.values()) {
+                bucket.clear();
+            }
+            potions.clear();
+            bagSize = 0;
+            currentSize = 0;
+            equipmentStats = EquipmentStats.NONE;
+            change = record(InventoryChange.Kind.CLEARED, null, null, 0);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        notifyListeners(change);
+    }
+    
+    // ===== Change notification =====
+    
+    public void addListener(InventoryListener listener) {
+        listeners.add(listener);
+    }
+    
+    public void removeListener(InventoryListener listener) {
+        listeners.remove(listener);
+    }
+    
+    /**
+     * Number of changes made so far; a cheap way to tell whether anything changed.
+     */
+    public long getVersion() {
+        long stamp = lock.tryOptimisticRead();
+        long current = version;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                current = version;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return current;
+    }
+    
+    // ===== Zero-copy reads =====
+    
+    /**
+     * Visit every bag item (grouped by type) under the read lock, without copying.
+     */
+    public void forEachBagItem(Consumer<Equipment> action) {
+        long stamp = lock.readLock();
+        try {
+            for (Set<Equipment> bucket : bag.values()) {
+                bucket.forEach(action);
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    
+    /**
+     * Visit the bag items of one type under the read lock, without copying.
+     */
+    public void forEachBagItem(EquipmentType type, Consumer<Equipment> action) {
+        long stamp = lock.readLock();
+        try {
+            bag.get(type).forEach(action);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    
+    /**
+     * Whether this exact item is in the bag (not equipped).
+     */
+    public boolean bagContains(Equipment item) {
+        long stamp = lock.readLock();
+        try {
+            return bag.get(item.getType()).contains(item);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    
+    /**
+     * Visit every potion stack under the read lock, without copying.
+     */
+    public void forEachPotion(Consumer<Potion> action) {
+        long stamp = lock.readLock();
+        try {
+            potions.values().forEach(action);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    
+    /**
+     * Visit every equipped item under the read lock, without copying.
+     */
+    public void forEachEquipped(Consumer<Equipment> action) {
+        long stamp = lock.readLock();
+        try {
+            equipped.values().forEach(action);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    
+    /**
+     * Live read-only view of the equipped slots. Not locked, so only safe while no other
+     * thread can modify this inventory; anywhere else use forEachEquipped.
+     */
+    public Map<EquipmentType, Equipment> equippedView() {
+        return Collections.unmodifiableMap(equipped);
+    }
+    
+    /**
+     * Live read-only view of the bag items of one type. Same caveat as equippedView;
+     * otherwise use forEachBagItem(type, action) or bagContains.
+     */
+    public Set<Equipment> bagView(EquipmentType type) {
+        return Collections.unmodifiableSet(bag.get(type));
+    }
+    
+    /**
+     * Live read-only view of the potion stacks. Same caveat as equippedView; otherwise
+     * use forEachPotion.
+     */
+    public Collection<Potion> potionsView() {
+        return Collections.unmodifiableCollection(potions.values());
     }
     
-    public synchronized int getCurrentSize() { return currentSize; }
+    public int getEquippedCount() { return readCount(Count.EQUIPPED); }
+    public int getPotionStackCount() { return readCount(Count.POTION_STACKS); }
+    public int getCurrentSize() { return readCount(Count.CURRENT_SIZE); }
+    public int getBagSize() { return readCount(Count.BAG_SIZE); }
     public int getCapacity() { return capacity; }
+
+    private enum Count { EQUIPPED, POTION_STACKS, CURRENT_SIZE, BAG_SIZE }
+
+    /**
+     * Optimistic read of one counter, retried under the read lock if a write intervened.
+     */
+    private int readCount(Count count) {
+        long stamp = lock.tryOptimisticRead();
+        int value = count(count);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                value = count(count);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return value;
+    }
+
+    private int count(Count count) {
+        switch (count) {
+            case EQUIPPED:
+                return equipped.size();
+            case POTION_STACKS:
+                return potions.size();
+            case BAG_SIZE:
+                return bagSize;
+            case CURRENT_SIZE:
+            default:
+                return currentSize;
+        }
+    }
+
+    /**
+     * Bump the version and describe the change for the listeners (null when there are
+     * none). Caller holds the write lock.
+     */
+    private InventoryChange record(InventoryChange.Kind kind, Equipment equipment, Potion.PotionType potionType, int quantity) {
+        version++;
+        if (listeners.isEmpty()) return null;
+        return new InventoryChange(version, kind, equipment, potionType, quantity);
+    }
+
+    /**
+     * Tell the listeners about a recorded change. Called after the write lock is released,
+     * so a listener can call back into this inventory.
+     */
+    private void notifyListeners(InventoryChange change) {
+        if (change == null) return;
+        for (InventoryListener listener : listeners) {
+            listener.inventoryChanged(change);
+        }
+    }
+
+    private boolean removeFromBag(Equipment item) {
+        if (bag.get(item.getType()).remove(item)) {
+            bagSize--;
+            return true;
+        }
+        return false;
+    }
 }
@@ -0,0 +1,48 @@
+package com.dungeonCrawler.items;
+
+/**
+ * One change to an Inventory, delivered to its listeners.
+ * Equipment changes carry the item; potion changes carry the potion type and the
+ * quantity added or used.
+ */
+public final class InventoryChange {
+    public enum Kind {
+        EQUIPMENT_ADDED,    // put in the bag
+        EQUIPMENT_REMOVED,  // taken out of the bag
+        EQUIPPED,           // moved from the bag to an equipped slot
+        UNEQUIPPED,         // removed from an equipped slot
+        POTION_ADDED,
+        POTION_USED,
+        CLEARED
+    }
+
+    private final long version;
+    private final Kind kind;
+    private final Equipment equipment;
+    private final Potion.PotionType potionType;
+    private final int quantity;
+
+    InventoryChange(long version, Kind kind, Equipment equipment, Potion.PotionType potionType, int quantity) {
+        this.version = version;
+        this.kind = kind;
+        this.equipment = equipment;
+        this.potionType = potionType;
+        this.quantity = quantity;
+    }
+
+    /**
+     * Inventory version after this change.
+     */
+    public long getVersion() { return version; }
+    public Kind getKind() { return kind; }
+    public Equipment getEquipment() { return equipment; }
+    public Potion.PotionType getPotionType() { return potionType; }
+    public int getQuantity() { return quantity; }
+
+    /**
+     * The potions added or used by this change, as a new Potion.
+     */
+    public Potion toPotion() {
+        return new Potion(potionType, quantity);
+    }
+}
@@ -0,0 +1,12 @@
+package com.dungeonCrawler.items;
+
+/**
+ * Receives every change made to an Inventory.
+ * Called on the changing thread right after the inventory's lock is released, so it may
+ * read or modify the inventory. Changes made by different threads can arrive out of
+ * order; InventoryChange.getVersion() gives their real order.
+ */
+@FunctionalInterface
+public interface InventoryListener {
+    void inventoryChanged(InventoryChange change);
+}
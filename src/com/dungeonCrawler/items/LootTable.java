@@ -0,0 +1,193 @@
+package com.dungeonCrawler.items;
+
+import com.dungeonCrawler.utils.AliasTable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Per-floor, data-driven drop rates for chests and shops.
+ * Every weighted choice (chest contents, equipment type, potion type, shop offer) is an
+ * AliasTable, so a roll is O(1) whatever the number of outcomes. Tables are immutable
+ * and built once per floor, then shared by every room and thread.
+ *
+ * Rates come from loot.properties (next to this class, or the file named by
+ * -Ddungeon.loot). A key can be overridden for one floor by prefixing it with
+ * "floor.N.", e.g. floor.10.chest.weight.EQUIPMENT=3. Keys that are not set keep the
+ * built-in values: every outcome equally likely, as in the original rooms.
+ */
+public final class LootTable {
+    /** What a chest holds. */
+    public enum ChestLoot { GOLD, EQUIPMENT, POTION }
+
+    /** What a ShopRoom offers its visitor. */
+    public enum ShopOffer { HEALING, EQUIPMENT }
+
+    // Config and the tables built from it are swapped together, so a table built from an
+    // old config can only land in the old cache, never in the new one
+    private static volatile Tables tables = new Tables(loadDefaultConfig());
+
+    private static final ChestLoot[] CHEST_LOOT = ChestLoot.values();
+    private static final ShopOffer[] SHOP_OFFERS = ShopOffer.values();
+    private static final EquipmentType[] EQUIPMENT_TYPES = EquipmentType.values();
+    private static final Potion.PotionType[] POTION_TYPES = Potion.PotionType.values();
+
+    private final int floor;
+    private final AliasTable chest;
+    private final AliasTable equipment;
+    private final AliasTable potions;
+    private final AliasTable shopOffers;
+    private final int goldMin;
+    private final int goldMax;
+    private final int potionMin;
+    private final int potionMax;
+    private final int priceMultiplier;
+    private final int healingPrice;
+    private final int shopLevelBonus;
+
+    private LootTable(int floor, Properties properties) {
+        this.floor = floor;
+        this.chest = weights(properties, "chest.weight.", CHEST_LOOT);
+        this.equipment = weights(properties, "equipment.weight.", EQUIPMENT_TYPES);
+        this.potions = weights(properties, "potion.weight.", POTION_TYPES);
+        this.shopOffers = weights(properties, "shop.weight.", SHOP_OFFERS);
+        this.goldMin = intValue(properties, "chest.gold.min", 50);
+        this.goldMax = Math.max(goldMin, intValue(properties, "chest.gold.max", 149));
+        this.potionMin = intValue(properties, "chest.potion.min", 1);
+        this.potionMax = Math.max(potionMin, intValue(properties, "chest.potion.max", 2));
+        this.priceMultiplier = intValue(properties, "shop.price.multiplier", 20);
+        this.healingPrice = intValue(properties, "shop.healing.price", 50);
+        this.shopLevelBonus = intValue(properties, "shop.level.bonus", 1);
+    }
+
+    /**
+     * Shared table for the given floor (built on first use).
+     */
+    public static LootTable forFloor(int floor) {
+        return tables.forFloor(floor);
+    }
+
+    /**
+     * Replace the drop rates for every floor, e.g. from a tuning run.
+     */
+    public static void configure(Properties properties) {
+        tables = new Tables(properties);
+    }
+
+    /**
+     * Load drop rates from a properties file.
+     */
+    public static void configure(String path) throws IOException {
+        try (Reader reader = Files.newBufferedReader(Paths.get(path))) {
+            Properties properties = new Properties();
+            properties.load(reader);
+            configure(properties);
+        }
+    }
+
+    // ===== Rolls =====
+
+    public ChestLoot rollChest(SplittableRandom random) {
+        return CHEST_LOOT[chest.sample(random)];
+    }
+
+    public EquipmentType rollEquipmentType(SplittableRandom random) {
+        return EQUIPMENT_TYPES[equipment.sample(random)];
+    }
+
+    public Potion.PotionType rollPotionType(SplittableRandom random) {
+        return POTION_TYPES[potions.sample(random)];
+    }
+
+    public ShopOffer rollShopOffer(SplittableRandom random) {
+        return SHOP_OFFERS[shopOffers.sample(random)];
+    }
+
+    public int rollGold(SplittableRandom random) {
+        return goldMin + random.nextInt(goldMax - goldMin + 1);
+    }
+
+    public int rollPotionQuantity(SplittableRandom random) {
+        return potionMin + random.nextInt(potionMax - potionMin + 1);
+    }
+
+    /**
+     * An item for sale, shop.level.bonus levels above the given hero level.
+     */
+    public Equipment rollShopItem(SplittableRandom random, int heroLevel) {
+        return new Equipment(rollEquipmentType(random), heroLevel + shopLevelBonus);
+    }
+
+    public int getPrice(EquipmentType type) { return type.getValue() * priceMultiplier; }
+    public int getHealingPrice() { return healingPrice; }
+    public int getFloor() { return floor; }
+
+    // ===== Loading =====
+
+    /**
+     * One configuration and the per-floor tables built from it.
+     */
+    private static final class Tables {
+        private final Properties config;
+        private final ConcurrentMap<Integer, LootTable> floors = new ConcurrentHashMap<>();
+
+        Tables(Properties config) {
+            this.config = config;
+        }
+
+        LootTable forFloor(int floor) {
+            return floors.computeIfAbsent(floor, f -> new LootTable(f, config));
+        }
+    }
+
+    private static Properties loadDefaultConfig() {
+        Properties properties = new Properties();
+        try {
+            String path = System.getProperty("dungeon.loot");
+            if (path != null) {
+                try (Reader reader = Files.newBufferedReader(Paths.get(path))) {
+                    properties.load(reader);
+                }
+            } else {
+                try (InputStream in = LootTable.class.getResourceAsStream("loot.properties")) {
+                    if (in != null) {
+                        properties.load(in);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read loot tables", e);
+        }
+        return properties;
+    }
+
+    private String key(String name) {
+        return "floor." + floor + "." + name;
+    }
+
+    private String value(Properties properties, String name) {
+        String value = properties.getProperty(key(name));
+        return value != null ? value : properties.getProperty(name);
+    }
+
+    private int intValue(Properties properties, String name, int defaultValue) {
+        String value = value(properties, name);
+        return value != null ? Integer.parseInt(value.trim()) : defaultValue;
+    }
+
+    private AliasTable weights(Properties properties, String prefix, Enum<?>[] outcomes) {
+        double[] weights = new double[outcomes.length];
+        for (int i = 0; i < outcomes.length; i++) {
+            String value = value(properties, prefix + outcomes[i].name());
+            weights[i] = value != null ? Double.parseDouble(value.trim()) : 1.0;
+        }
+        return new AliasTable(weights);
+    }
+}
@@ -2,68 +2,86 @@ package com.dungeonCrawler.rooms;
 
 import com.dungeonCrawler.characters.GameCharacter;
 import com.dungeonCrawler.items.Equipment;
-import com.dungeonCrawler.items.EquipmentType;
+import com.dungeonCrawler.items.LootTable;
 import com.dungeonCrawler.items.Potion;
-import java.util.Random;
+import com.dungeonCrawler.utils.RandomStreams;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * Chest room - Contains treasure and loot.
+ * Chest room - Contains treasure and loot, drawn from the floor's LootTable.
+ * The only contended state is whether the chest was opened: the first hero to flip that
+ * flag owns the loot roll, so no lock is held while rolling and paying out.
  */
 public class ChestRoom implements Room {
-    private Random random;
-    private boolean opened;
+    private SplittableRandom random;
+    private LootTable loot;
+    private final AtomicBoolean opened = new AtomicBoolean();
     
     public ChestRoom() {
-        this.random = new Random();
-        this.opened = false;
+        this(RandomStreams.global().split());
+    }
+    
+    public ChestRoom(SplittableRandom random) {
+        this(1, random);
+    }
+    
+    public ChestRoom(int floorNumber, SplittableRandom random) {
+        this.random = random;
+        this.loot = LootTable.forFloor(floorNumber);
+    }
+    
+    /**
+     * Refill this chest for a new floor and stream, as if newly constructed (used by RoomPool).
+     */
+    void reset(int floorNumber, SplittableRandom random) {
+        this.random = random;
+        this.loot = LootTable.forFloor(floorNumber);
+        this.opened.set(false);
     }
     
     @Override
     public void enter(GameCharacter character) {
         character.addLog(character.getCharacterName() + " enters a chamber with an ornate chest!");
         
-        synchronized(this) {
-            if (!opened) {
-                opened = true;
-                
-                // Random loot
-                int lootType = random.nextInt(3);
-                switch(lootType) {
-                    case 0: // Gold
-                        int gold = random.nextInt(100) + 50;
-                        character.addGold(gold);
-                        character.addLog("Found " + gold + " gold!");
-                        break;
-                    case 1: // Equipment
-                        EquipmentType[] types = EquipmentType.values();
-                        EquipmentType eqType = types[random.nextInt(types.length)];
-                        Equipment equipment = new Equipment(eqType, character.getLevel());
-                        character.getInventory().addEquipment(equipment);
-                        character.addLog("Found: " + equipment.toString());
-                        character.collectItem();
-                        break;
-                    case 2: // Potion
-                        Potion.PotionType[] potionTypes = Potion.PotionType.values();
-                        Potion.PotionType pType = potionTypes[random.nextInt(potionTypes.length)];
-                        Potion potion = new Potion(pType, random.nextInt(2) + 1);
-                        character.getInventory().addPotion(potion);
-                        character.addLog("Found: " + potion.toString());
-                        character.collectItem();
-                        break;
-                }
-            } else {
-                character.addLog("The chest is already looted!");
-            }
+        if (!opened.compareAndSet(false, true)) {
+            character.addLog("The chest is already looted!");
+            return;
+        }
+        
+        // Random loot; only the hero who opened the chest gets here
+        switch(loot.rollChest(random)) {
+            case GOLD:
+                int gold = loot.rollGold(random);
+                character.addGold(gold);
+                character.addLog("Found " + gold + " gold!");
+                break;
+            case EQUIPMENT:
+                Equipment equipment = new Equipment(loot.rollEquipmentType(random), character.getLevel());
+                character.getInventory().addEquipment(equipment);
+                character.addLog("Found: " + equipment.toString());
+                character.collectItem();
+                break;
+            case POTION:
+                Potion potion = new Potion(loot.rollPotionType(random), loot.rollPotionQuantity(random));
+                character.getInventory().addPotion(potion);
+                character.addLog("Found: " + potion.toString());
+                character.collectItem();
+                break;
         }
     }
     
     @Override
     public String getRoomType() {
-        return "Chest Room";
+        return RoomType.CHEST.getDisplayName();
     }
     
     @Override
     public String getDescription() {
+        return describe(opened.get());
+    }
+    
+    static String describe(boolean opened) {
         return "A treasure-filled chamber. " + (opened ? "The chest is already open and empty." : "An ornate chest gleams in the torchlight.");
     }
 }
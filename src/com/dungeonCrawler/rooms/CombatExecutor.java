@@ -0,0 +1,93 @@
+package com.dungeonCrawler.rooms;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs hero attack tasks for CombatRoom.
+ * The mode is chosen once at startup with -Ddungeon.combat.executor=thread|pool|virtual
+ * (default: pool) or programmatically with setMode before combat begins.
+ *  - THREAD_PER_ATTACK: a new platform thread per attack (original behaviour)
+ *  - POOLED: a shared, bounded pool of daemon threads sized to the core count
+ *  - VIRTUAL: a virtual thread per attack when the JVM supports it (Java 21+),
+ *    otherwise falls back to the bounded pool
+ */
+public final class CombatExecutor {
+    public enum Mode {
+        THREAD_PER_ATTACK, POOLED, VIRTUAL
+    }
+
+    private static volatile Mode mode = parseMode(System.getProperty("dungeon.combat.executor", "pool"));
+    private static final AtomicInteger POOL_THREADS = new AtomicInteger();
+
+    private CombatExecutor() {
+    }
+
+    /**
+     * Run an attack task according to the current mode.
+     */
+    public static void submit(Runnable task) {
+        switch (mode) {
+            case THREAD_PER_ATTACK:
+                new Thread(task).start();
+                break;
+            case VIRTUAL:
+                VirtualHolder.EXECUTOR.execute(task);
+                break;
+            case POOLED:
+            default:
+                PoolHolder.EXECUTOR.execute(task);
+                break;
+        }
+    }
+
+    public static Mode getMode() { return mode; }
+    public static void setMode(Mode newMode) { mode = newMode; }
+
+    /**
+     * Whether VIRTUAL mode really uses virtual threads on this JVM.
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VirtualHolder.NATIVE;
+    }
+
+    private static Mode parseMode(String value) {
+        switch (value.trim().toLowerCase()) {
+            case "thread":
+                return Mode.THREAD_PER_ATTACK;
+            case "virtual":
+                return Mode.VIRTUAL;
+            default:
+                return Mode.POOLED;
+        }
+    }
+
+    // Lazy holders: executors are only created if their mode is actually used
+    private static final class PoolHolder {
+        static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(), r -> {
+                Thread t = new Thread(r, "combat-" + POOL_THREADS.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+    }
+
+    private static final class VirtualHolder {
+        static final boolean NATIVE;
+        static final ExecutorService EXECUTOR;
+
+        static {
+            ExecutorService virtual = null;
+            try {
+                Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                virtual = (ExecutorService) factory.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                // pre-21 JVM: no virtual threads
+            }
+            NATIVE = virtual != null;
+            EXECUTOR = virtual != null ? virtual : PoolHolder.EXECUTOR;
+        }
+    }
+}
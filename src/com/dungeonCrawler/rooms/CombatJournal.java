@@ -0,0 +1,72 @@
+package com.dungeonCrawler.rooms;
+
+import com.dungeonCrawler.characters.BattleLog;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Append-only narration of one combat encounter.
+ * Every participant and the CLI hold a reference to the same journal, so a broadcast
+ * is a single append no matter how many heroes are in the fight.
+ * Follows the battle log text setting: nothing is kept when text rendering is off.
+ */
+public class CombatJournal {
+    private final List<String> entries;
+    private final boolean recording;
+
+    public CombatJournal() {
+        this.entries = new ArrayList<>();
+        this.recording = BattleLog.isTextRendering();
+    }
+
+    /**
+     * Append a line (thread-safe; attack tasks append concurrently).
+     */
+    public void append(String line) {
+        if (!recording) return;
+        synchronized (entries) {
+            entries.add(line);
+        }
+    }
+
+    /**
+     * Whether appended lines are kept. Callers can skip building expensive lines when not.
+     */
+    public boolean isRecording() { return recording; }
+
+    /**
+     * Copy of the lines written so far, oldest first.
+     */
+    public List<String> getEntries() {
+        synchronized (entries) {
+            return new ArrayList<>(entries);
+        }
+    }
+
+    /**
+     * Visit every line without copying the journal.
+     */
+    public void forEach(Consumer<String> action) {
+        synchronized (entries) {
+            entries.forEach(action);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public boolean isEmpty() { return size() == 0; }
+
+    /**
+     * Forget every line (the room is being reused for a new encounter).
+     */
+    void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+}
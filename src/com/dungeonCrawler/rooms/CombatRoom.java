@@ -1,12 +1,13 @@
 package com.dungeonCrawler.rooms;
 
+import com.dungeonCrawler.characters.CharacterSnapshot;
 import com.dungeonCrawler.characters.GameCharacter;
-import com.dungeonCrawler.characters.Knight;
-import com.dungeonCrawler.characters.Thief;
-import com.dungeonCrawler.characters.Wizard;
+import com.dungeonCrawler.items.EquipmentStats;
+import com.dungeonCrawler.utils.Banners;
+import com.dungeonCrawler.utils.RandomStreams;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 import java.util.concurrent.CountDownLatch;
 
 /**
@@ -14,7 +15,11 @@ import java.util.concurrent.CountDownLatch;
  * then enemy responds.
  */
 public class CombatRoom implements Room {
-    private Random random;
+    private static final String[] ENEMIES = {"Goblin", "Orc", "Troll", "Skeleton", "Wraith", "Drake"};
+    
+    // Room-owned stream: used only by the thread running the combat (enemy turns, rewards).
+    // Hero attacks run concurrently and draw from each hero's own stream instead.
+    private SplittableRandom random;
     private String enemyName;
     private int enemyMaxHealth;
     private int enemyHealth;
@@ -24,24 +29,55 @@ public class CombatRoom implements Room {
     private boolean combatStarted = false;
     // Track last total gold earned from the most recent combat
     private int lastGoldEarned = 0;
+    private int roundsFought = 0;
     private java.util.Set<GameCharacter> restingHeroes = new java.util.HashSet<>();
+    // One shared narration for the whole encounter, referenced by every participant
+    private final CombatJournal journal = new CombatJournal();
     
     public CombatRoom(int floorNumber) {
-        this.random = new Random();
+        this(floorNumber, null, RandomStreams.global().split());
+    }
+    
+    public CombatRoom(int floorNumber, java.util.Set<GameCharacter> restingHeroes) {
+        this(floorNumber, restingHeroes, RandomStreams.global().split());
+    }
+    
+    public CombatRoom(int floorNumber, java.util.Set<GameCharacter> restingHeroes, SplittableRandom random) {
+        this.random = random;
         this.defeated = false;
+        this.restingHeroes = restingHeroes != null ? new java.util.HashSet<>(restingHeroes) : new java.util.HashSet<>();
         generateEnemy(floorNumber);
     }
     
-        public CombatRoom(int floorNumber, java.util.Set<GameCharacter> restingHeroes) {
-            this.random = new Random();
+    /**
+     * Make this room a fresh encounter, as if newly constructed (used by RoomPool).
+     */
+    void reset(int floorNumber, java.util.Set<GameCharacter> restingHeroes, SplittableRandom random) {
+        synchronized(this) {
+            this.random = random;
             this.defeated = false;
-            this.restingHeroes = restingHeroes != null ? new java.util.HashSet<>(restingHeroes) : new java.util.HashSet<>();
+            this.combatStarted = false;
+            this.lastGoldEarned = 0;
+            this.roundsFought = 0;
+            this.allHeroes.clear();
+            this.restingHeroes.clear();
+            if (restingHeroes != null) {
+                this.restingHeroes.addAll(restingHeroes);
+            }
+            journal.clear();
             generateEnemy(floorNumber);
         }
+    }
+    
+    /**
+     * Name of the enemy a room built with this stream will face; the first draw decides it.
+     */
+    static String enemyNameFor(SplittableRandom random) {
+        return ENEMIES[random.nextInt(ENEMIES.length)];
+    }
     
     private void generateEnemy(int floorNumber) {
-        String[] enemies = {"Goblin", "Orc", "Troll", "Skeleton", "Wraith", "Drake"};
-        this.enemyName = enemies[random.nextInt(enemies.length)];
+        this.enemyName = enemyNameFor(random);
         this.enemyMaxHealth = 50 + (floorNumber * 20) + random.nextInt(30);
         this.enemyHealth = enemyMaxHealth;
         // Reduce enemy attack scaling so bosses deal less damage per floor
@@ -58,15 +94,7 @@ public class CombatRoom implements Room {
         boolean shouldStartCombat = false;
         
         synchronized(this) {
-            // Add hero if not already present
-            if (!allHeroes.contains(character) && character.isCharacterAlive()) {
-                allHeroes.add(character);
-                
-                broadcastToAll("\n" + "=".repeat(60));
-                broadcastToAll("*** COMBAT STARTED ***");
-                broadcastToAll("Party encounters a " + enemyName + "!");
-                broadcastToAll("=".repeat(60) + "\n");
-            }
+            joinCombat(character);
             
             // Start combat when we have all 3 heroes OR after giving time for them to join
             if (!combatStarted && allHeroes.size() == 3) {
@@ -81,10 +109,50 @@ public class CombatRoom implements Room {
         }
     }
     
+    /**
+     * Bring every living, non-resting hero of the party into the fight and start it
+     * immediately, even if fewer than three heroes are still standing.
+     */
+    public void engageParty(GameCharacter[] party) {
+        boolean shouldStartCombat = false;
+        
+        synchronized(this) {
+            for (GameCharacter character : party) {
+                if (!restingHeroes.contains(character)) {
+                    joinCombat(character);
+                }
+            }
+            
+            if (!combatStarted && !allHeroes.isEmpty()) {
+                combatStarted = true;
+                shouldStartCombat = true;
+            }
+        }
+        
+        if (shouldStartCombat) {
+            conductMultithreadedCombat();
+        }
+    }
+    
+    /**
+     * Add hero if not already present. Caller must hold this room's lock.
+     */
+    private void joinCombat(GameCharacter character) {
+        if (!allHeroes.contains(character) && character.isCharacterAlive()) {
+            allHeroes.add(character);
+            character.setCombatJournal(journal);
+            
+            broadcastToAll("\n" + Banners.COMBAT_LINE);
+            broadcastToAll("*** COMBAT STARTED ***");
+            broadcastToAll("Party encounters a " + enemyName + "!");
+            broadcastToAll(Banners.COMBAT_LINE + "\n");
+        }
+    }
+    
     private void conductMultithreadedCombat() {
-        broadcastToAll("\n" + "=".repeat(60));
+        broadcastToAll("\n" + Banners.COMBAT_LINE);
         broadcastToAll("ENEMIES: " + enemyName + " - HP: " + enemyHealth + "/" + enemyMaxHealth);
-        broadcastToAll("=".repeat(60) + "\n");
+        broadcastToAll(Banners.COMBAT_LINE + "\n");
         
         int round = 1;
         
@@ -98,9 +166,9 @@ public class CombatRoom implements Room {
             }
             
             if (aliveHeroes == 0) {
-                broadcastToAll("\n" + "=".repeat(60));
+                broadcastToAll("\n" + Banners.COMBAT_LINE);
                 broadcastToAll("*** ALL HEROES DEFEATED! ***");
-                broadcastToAll("=".repeat(60) + "\n");
+                broadcastToAll(Banners.COMBAT_LINE + "\n");
                 break;
             }
             
@@ -108,20 +176,13 @@ public class CombatRoom implements Room {
             broadcastToAll(enemyName + " HP: " + enemyHealth + "/" + enemyMaxHealth + "\n");
             
             // Display all hero statuses before actions
-            for (GameCharacter hero : allHeroes) {
-                if (hero.isCharacterAlive()) {
-                    broadcastToAll(hero.getCharacterName() + ": " + hero.getHealth() + "/" + 
-                                 hero.getMaxHealth() + " HP | " + hero.getMana() + "/" + 
-                                 hero.getMaxMana() + " Mana");
-                }
-            }
+            reportHeroStatus();
             broadcastToAll("");
             
             // ===== SIMULTANEOUS HERO ATTACKS =====
             broadcastToAll(">>> HEROES ATTACK! <<<\n");
             
             // Use CountDownLatch to synchronize all hero attacks
-            CountDownLatch attackLatch = new CountDownLatch(0);
             int livingHeroes = 0;
             
             // Count living heroes for latch
@@ -131,36 +192,34 @@ public class CombatRoom implements Room {
                 }
             }
             
-            if (livingHeroes > 0) {
-                attackLatch = new CountDownLatch(livingHeroes);
-            }
-            
-            int totalDamage = 0;
-            List<Integer> heroDamages = new ArrayList<>();
+            // Each attack writes its own slot, so no lock is needed on the results
+            final int[] heroDamages = new int[livingHeroes];
+            final CountDownLatch attackLatch = new CountDownLatch(livingHeroes);
             
-            // Launch attack threads for each living hero
-            final CountDownLatch finalLatch = attackLatch;
+            // Submit an attack task for each living hero to the combat executor
+            int slot = 0;
             for (GameCharacter hero : allHeroes) {
                 if (hero.isCharacterAlive()) {
-                    Thread attackThread = new Thread(() -> {
-                        int damage = executeHeroAttack(hero);
-                        synchronized(heroDamages) {
-                            heroDamages.add(damage);
+                    final int index = slot++;
+                    CombatExecutor.submit(() -> {
+                        try {
+                            heroDamages[index] = executeHeroAttack(hero);
+                        } finally {
+                            attackLatch.countDown();
                         }
-                        finalLatch.countDown();
                     });
-                    attackThread.start();
                 }
             }
             
             // Wait for all attacks to complete
             try {
-                finalLatch.await();
+                attackLatch.await();
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
             }
             
             // Calculate total damage
+            int totalDamage = 0;
             for (int damage : heroDamages) {
                 totalDamage += damage;
             }
@@ -170,9 +229,9 @@ public class CombatRoom implements Room {
             
             // Check if enemy is defeated
             if (enemyHealth <= 0) {
-                broadcastToAll("\n" + "=".repeat(60));
+                broadcastToAll("\n" + Banners.COMBAT_LINE);
                 broadcastToAll("*** " + enemyName.toUpperCase() + " DEFEATED! ***");
-                broadcastToAll("=".repeat(60) + "\n");
+                broadcastToAll(Banners.COMBAT_LINE + "\n");
                 
                 // Reward all living heroes and calculate total gold
                 int totalGoldEarned = 0;
@@ -192,7 +251,7 @@ public class CombatRoom implements Room {
                 this.lastGoldEarned = totalGoldEarned;
                 broadcastToAll("Gained " + totalGoldEarned + " gold total!");
                 
-                broadcastToAll("=".repeat(60) + "\n");
+                broadcastToAll(Banners.COMBAT_LINE + "\n");
                 defeated = true;
                 break;
             }
@@ -216,114 +275,69 @@ public class CombatRoom implements Room {
             broadcastToAll("");
             // Display hero health/mana after round segment
             broadcastToAll("--- End of Round " + round + " ---");
+            reportHeroStatus();
+            broadcastToAll("");
+            
+            // One tick per round: buffs and debuffs wear off together
             for (GameCharacter hero : allHeroes) {
-                if (hero.isCharacterAlive()) {
-                    broadcastToAll(hero.getCharacterName() + ": " + hero.getHealth() + "/" + 
-                                 hero.getMaxHealth() + " HP | " + hero.getMana() + "/" + 
-                                 hero.getMaxMana() + " Mana");
-                }
+                hero.getStatusEffects().tick();
             }
-            broadcastToAll("");
             round++;
+            roundsFought++;
         }
     }
     
     private int executeHeroAttack(GameCharacter hero) {
-        int baseDamage = random.nextInt(12) + 8;
-        int totalDamage = baseDamage;
+        SplittableRandom heroRandom = hero.getRandom();
+        EquipmentStats gear = hero.getInventory().getEquipmentStats();
+        int baseDamage = heroRandom.nextInt(12) + 8 + gear.getAttack();
         
         broadcastToAll(hero.getCharacterName() + " (" + hero.getCharacterClass() + ") attacks!");
         
-        if (hero instanceof Wizard) {
-            totalDamage = executeWizardAttack((Wizard) hero, baseDamage);
-        } else if (hero instanceof Thief) {
-            totalDamage = executeThiefAttack((Thief) hero, baseDamage);
-        } else if (hero instanceof Knight) {
-            totalDamage = executeKnightAttack((Knight) hero, baseDamage);
-        }
+        int totalDamage = hero.getCombatStrategy().attack(baseDamage, heroRandom, journal);
         
         broadcastToAll(hero.getCharacterName() + " deals " + totalDamage + " damage!\n");
         
         return totalDamage;
     }
     
-    private int executeWizardAttack(Wizard wizard, int baseDamage) {
-        if (wizard.getMana() >= 20) {
-            wizard.deductMana(20);
-            int spellDamage = baseDamage + 15;
-            broadcastToAll("  🔮 Wizard casts FIREBALL (-20 mana) for " + spellDamage + " total damage!");
-            return spellDamage;
-        } else {
-            broadcastToAll("  ⚠️  Not enough mana for spell! Basic attack only (-5 mana)");
-            wizard.deductMana(5);
-            return baseDamage;
-        }
-    }
-    
-    private int executeThiefAttack(Thief thief, int baseDamage) {
-        int dodgeChance = thief.getMovement();
-        
-        if (random.nextInt(100) < 20) {
-            if (thief.getMana() >= 15) {
-                thief.deductMana(15);
-                int goldStolen = random.nextInt(20) + 10;
-                broadcastToAll("  💰 Thief uses STEAL GOLD (-15 mana) and steals " + goldStolen + " gold!");
-                broadcastToAll("  (Base attack reduced this turn)");
-                return baseDamage / 2;
-            }
-        }
-        
-        if (random.nextInt(100) < thief.getCriticalChance()) {
-            int critDamage = baseDamage * 2;
-            broadcastToAll("  ⚡ CRITICAL STRIKE for " + critDamage + " damage!");
-            return critDamage;
-        }
-        
-        broadcastToAll("  🗡️  Thief strikes with " + baseDamage + " damage (Dodge: " + dodgeChance + "%)");
-        return baseDamage;
-    }
-    
-    private int executeKnightAttack(Knight knight, int baseDamage) {
-        if (random.nextInt(100) < 30) {
-            if (knight.getMana() >= 25) {
-                knight.deductMana(25);
-                broadcastToAll("  🛡️  Knight casts SHIELD SPELL (-25 mana)");
-                broadcastToAll("  (Defense increased this round - reduced incoming damage)");
-                broadcastToAll("  (Reduced attack power this turn)");
-                return baseDamage / 2;
-            }
-        }
-        
-        broadcastToAll("  🗡️  Knight performs a strong attack for " + baseDamage + " damage!");
-        return baseDamage;
-    }
-    
     private void executeEnemyAttack(GameCharacter target) {
-        boolean dodged = false;
         int incomingDamage = enemyAttackPower + random.nextInt(8);
         
         broadcastToAll(enemyName + " targets " + target.getCharacterName() + "!");
         
-        if (target instanceof Thief) {
-            Thief thief = (Thief) target;
-            int dodgeChance = thief.getMovement();
-            if (random.nextInt(100) < dodgeChance) {
-                broadcastToAll("  ✨ " + target.getCharacterName() + " DODGES the attack! (Dodge: " + dodgeChance + "%)");
-                dodged = true;
-            }
+        EquipmentStats gear = target.getInventory().getEquipmentStats();
+        if (gear.getDodge() > 0 && random.nextInt(100) < gear.getDodge()) {
+            broadcastToAll("  👢 " + target.getCharacterName() + " sidesteps the attack! (Gear dodge: " + gear.getDodge() + "%)");
+            return;
         }
         
-        if (!dodged) {
+        if (!target.getCombatStrategy().dodge(random, journal)) {
+            incomingDamage = gear.reduceDamage(incomingDamage);
             broadcastToAll("  💥 " + enemyName + " hits " + target.getCharacterName() + " for " + incomingDamage + " damage!");
             target.takeDamage(incomingDamage);
         }
     }
     
-    private void broadcastToAll(String message) {
+    /**
+     * Broadcast one consistent status line per living hero.
+     */
+    private void reportHeroStatus() {
+        if (!journal.isRecording()) return;
         for (GameCharacter hero : allHeroes) {
-            hero.addLogDirect(message);
+            CharacterSnapshot status = hero.snapshot();
+            if (status.isAlive()) {
+                broadcastToAll(status.vitalsLine());
+            }
         }
     }
+    
+    /**
+     * Publish a combat message to everyone in the encounter: one append to the shared journal.
+     */
+    private void broadcastToAll(String message) {
+        journal.append(message);
+    }
 
     /**
      * Apply an equal enemy attack to all provided heroes and log the results.
@@ -331,19 +345,35 @@ public class CombatRoom implements Room {
      */
     public int applyEqualDamageToAll(GameCharacter[] party) {
         int damage = enemyAttackPower + random.nextInt(8);
-        String header = "\n" + "=".repeat(60) + "\n";
+        String header = "\n" + Banners.COMBAT_LINE + "\n";
         String title = "*** COMBAT SKIPPED: " + enemyName + " STRIKES ALL HEROES ***";
 
         for (GameCharacter hero : party) {
             if (hero.isCharacterAlive()) {
                 hero.takeDamage(damage);
-                String msg = header + title + "\n" + enemyName + " hits " + hero.getCharacterName() + " for " + damage + " damage!\n" + header;
-                hero.addLogDirect(msg);
+                hero.setCombatJournal(journal);
+                if (journal.isRecording()) {
+                    journal.append(header + title + "\n" + enemyName + " hits " + hero.getCharacterName() + " for " + damage + " damage!\n" + header);
+                }
             }
         }
         return damage;
     }
 
+    /**
+     * Number of full rounds (heroes and enemy both acted) fought in this room.
+     */
+    public synchronized int getRoundsFought() {
+        return roundsFought;
+    }
+
+    /**
+     * Shared narration of this encounter.
+     */
+    public CombatJournal getJournal() {
+        return journal;
+    }
+
     /**
      * Return the total gold earned by the last completed combat.
      */
@@ -360,11 +390,15 @@ public class CombatRoom implements Room {
     
     @Override
     public String getRoomType() {
-        return "Combat Room";
+        return RoomType.COMBAT.getDisplayName();
     }
     
     @Override
     public String getDescription() {
+        return describe(enemyName, defeated);
+    }
+    
+    static String describe(String enemyName, boolean defeated) {
         return (defeated ? "The defeated " : "A hostile ") + enemyName + (defeated ? " lies on the ground." : " awaits in combat!");
     }
 }
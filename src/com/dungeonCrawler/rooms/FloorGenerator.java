@@ -0,0 +1,165 @@
+package com.dungeonCrawler.rooms;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Seeded procedural floors. A campaign seed and a floor number fully decide the layout:
+ * chests, combats and at most one shop, joined by a random spanning tree plus a few
+ * shortcuts so every room is reachable. Floors have ROOMS_PER_FLOOR rooms, more than a
+ * party explores in one visit, unless the generator is built for bigger ones (shared
+ * floors explored by many parties).
+ *
+ * Layouts are immutable and cached process-wide by (seed, floor, rooms), so replays and batch
+ * simulations of the same seed never generate a floor twice. The cache holds up to
+ * -Ddungeon.floorCache.size layouts (default 65536) and starts over once full.
+ */
+public class FloorGenerator {
+    public static final int ROOMS_PER_FLOOR = 24;
+
+    private static final int CACHE_LIMIT = Integer.getInteger("dungeon.floorCache.size", 65536);
+    private static final ConcurrentMap<FloorKey, FloorLayout> CACHE = new ConcurrentHashMap<>();
+
+    private final long seed;
+    private final int roomsPerFloor;
+
+    public FloorGenerator(long seed) {
+        this(seed, ROOMS_PER_FLOOR);
+    }
+
+    public FloorGenerator(long seed, int roomsPerFloor) {
+        if (roomsPerFloor < 1) {
+            throw new IllegalArgumentException("A floor needs at least one room: " + roomsPerFloor);
+        }
+        this.seed = seed;
+        this.roomsPerFloor = roomsPerFloor;
+    }
+
+    /**
+     * Layout of the given floor, from the cache when it was generated before.
+     */
+    public FloorLayout generate(int floor) {
+        FloorKey key = new FloorKey(seed, floor, roomsPerFloor);
+        FloorLayout layout = CACHE.get(key);
+        if (layout != null) {
+            return layout;
+        }
+        if (CACHE.size() >= CACHE_LIMIT) {
+            CACHE.clear();
+        }
+        return CACHE.computeIfAbsent(key, k -> build(seed, floor, roomsPerFloor));
+    }
+
+    /**
+     * Layouts of floors 1..floors, generated in parallel; index i holds floor i + 1.
+     */
+    public List<FloorLayout> generateCampaign(int floors) {
+        return IntStream.rangeClosed(1, floors)
+            .parallel()
+            .mapToObj(this::generate)
+            .collect(Collectors.toList());
+    }
+
+    public long getSeed() { return seed; }
+    public int getRoomsPerFloor() { return roomsPerFloor; }
+
+    public static int getCacheSize() { return CACHE.size(); }
+
+    public static void clearCache() { CACHE.clear(); }
+
+    /**
+     * Generate a layout without touching the cache.
+     */
+    public static FloorLayout build(long seed, int floor) {
+        return build(seed, floor, ROOMS_PER_FLOOR);
+    }
+
+    /**
+     * Generate a layout with the given number of rooms without touching the cache.
+     */
+    public static FloorLayout build(long seed, int floor, int rooms) {
+        SplittableRandom random = new SplittableRandom(floorSeed(seed, floor));
+
+        // chest, combat and shop equally likely; only the first shop roll opens a shop
+        RoomType[] types = new RoomType[rooms];
+        boolean shop = false;
+        for (int i = 0; i < rooms; i++) {
+            int pick = random.nextInt(3);
+            if (pick == 2 && !shop) {
+                types[i] = RoomType.SHOP;
+                shop = true;
+            } else {
+                types[i] = pick == 0 ? RoomType.CHEST : RoomType.COMBAT;
+            }
+        }
+
+        // spanning tree: every room hangs off an earlier one, so all are connected
+        List<List<Integer>> adjacency = new ArrayList<>(rooms);
+        for (int i = 0; i < rooms; i++) {
+            adjacency.add(new ArrayList<>());
+        }
+        for (int i = 1; i < rooms; i++) {
+            link(adjacency, i, random.nextInt(i));
+        }
+        // a few shortcuts make loops
+        for (int n = 0; n < rooms / 2; n++) {
+            int a = random.nextInt(rooms);
+            int b = random.nextInt(rooms);
+            if (a != b && !adjacency.get(a).contains(b)) {
+                link(adjacency, a, b);
+            }
+        }
+
+        int[][] exits = new int[rooms][];
+        long[] roomSeeds = new long[rooms];
+        for (int i = 0; i < rooms; i++) {
+            exits[i] = adjacency.get(i).stream().mapToInt(Integer::intValue).toArray();
+            Arrays.sort(exits[i]);
+            roomSeeds[i] = random.nextLong();
+        }
+        return new FloorLayout(floor, seed, types, roomSeeds, exits);
+    }
+
+    private static void link(List<List<Integer>> adjacency, int a, int b) {
+        adjacency.get(a).add(b);
+        adjacency.get(b).add(a);
+    }
+
+    /**
+     * Independent stream seed per floor (one SplittableRandom mixing step).
+     */
+    private static long floorSeed(long seed, int floor) {
+        return new SplittableRandom(seed + floor * 0x9E3779B97F4A7C15L).nextLong();
+    }
+
+    private static final class FloorKey {
+        private final long seed;
+        private final int floor;
+        private final int rooms;
+
+        FloorKey(long seed, int floor, int rooms) {
+            this.seed = seed;
+            this.floor = floor;
+            this.rooms = rooms;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof FloorKey)) return false;
+            FloorKey other = (FloorKey) o;
+            return seed == other.seed && floor == other.floor && rooms == other.rooms;
+        }
+
+        @Override
+        public int hashCode() {
+            return (Long.hashCode(seed) * 31 + floor) * 31 + rooms;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.dungeonCrawler.rooms;
+
+import com.dungeonCrawler.characters.GameCharacter;
+import java.util.Set;
+
+/**
+ * Immutable plan of one floor: a connected graph of rooms, each stored as a type and a
+ * seed. Rooms are never built here, so a layout can be cached and shared by every
+ * replay of the same floor; each play builds its own rooms through option().
+ * Room 0 is the entrance, where a party starts exploring.
+ */
+public final class FloorLayout {
+    private final int floor;
+    private final long seed;
+    private final RoomType[] types;
+    private final long[] roomSeeds;
+    private final int[][] exits;
+
+    FloorLayout(int floor, long seed, RoomType[] types, long[] roomSeeds, int[][] exits) {
+        this.floor = floor;
+        this.seed = seed;
+        this.types = types;
+        this.roomSeeds = roomSeeds;
+        this.exits = exits;
+    }
+
+    /**
+     * Descriptor for one room of this floor. Shop rooms are stateful for the whole floor,
+     * so the caller passes the shop it built for this play (see shopSeed()).
+     */
+    public RoomOption option(int room, Set<GameCharacter> restingHeroes, Room shopRoom) {
+        switch (types[room]) {
+            case SHOP:
+                return RoomOption.shop(floor, shopRoom);
+            case COMBAT:
+                return RoomOption.combat(floor, roomSeeds[room], restingHeroes);
+            case CHEST:
+            default:
+                return RoomOption.chest(floor, roomSeeds[room]);
+        }
+    }
+
+    /**
+     * Whether this floor has a shop (floors have at most one).
+     */
+    public boolean hasShop() {
+        for (RoomType type : types) {
+            if (type == RoomType.SHOP) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Seed of the floor's shop, or this floor's seed if it has none.
+     */
+    public long shopSeed() {
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == RoomType.SHOP) {
+                return roomSeeds[i];
+            }
+        }
+        return seed;
+    }
+
+    public int getFloor() { return floor; }
+    public long getSeed() { return seed; }
+    public int getRoomCount() { return types.length; }
+    public RoomType getType(int room) { return types[room]; }
+    public long getRoomSeed(int room) { return roomSeeds[room]; }
+    public int getEntrance() { return 0; }
+    public int getExitCount(int room) { return exits[room].length; }
+
+    /**
+     * The k-th room reachable from the given room (exits are sorted by room index).
+     */
+    public int getExit(int room, int k) { return exits[room][k]; }
+}
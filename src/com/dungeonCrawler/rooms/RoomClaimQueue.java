@@ -0,0 +1,45 @@
+package com.dungeonCrawler.rooms;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out a floor's rooms to any number of parties, each room exactly once and in
+ * layout order. The rooms are fixed when the queue is built, so a claim is only a
+ * compare-and-set on a cursor: no lock, and a failed CAS just means another party took
+ * that room first.
+ */
+public final class RoomClaimQueue {
+    private static final RoomClaimQueue EMPTY = new RoomClaimQueue(List.of());
+
+    private final RoomOption[] rooms;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public RoomClaimQueue(List<RoomOption> rooms) {
+        this.rooms = rooms.toArray(new RoomOption[0]);
+    }
+
+    public static RoomClaimQueue empty() {
+        return EMPTY;
+    }
+
+    /**
+     * The next unclaimed room, or null once every room has been handed out.
+     */
+    public RoomOption claim() {
+        while (true) {
+            int index = next.get();
+            if (index >= rooms.length) {
+                return null;
+            }
+            if (next.compareAndSet(index, index + 1)) {
+                return rooms[index];
+            }
+        }
+    }
+
+    public int size() { return rooms.length; }
+    public int getClaimed() { return Math.min(next.get(), rooms.length); }
+    public int getRemaining() { return rooms.length - getClaimed(); }
+    public boolean isExhausted() { return next.get() >= rooms.length; }
+}
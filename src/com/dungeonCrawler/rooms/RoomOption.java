@@ -0,0 +1,107 @@
+package com.dungeonCrawler.rooms;
+
+import com.dungeonCrawler.characters.GameCharacter;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * A room offered to the player: just its type, floor and seed.
+ * The real room is only built when the option is chosen, so the options that are
+ * passed over cost no Random, lists or enemy rolls. Materializing from the same seed
+ * always gives the same room (same enemy, same loot).
+ *
+ * Not thread-safe: materialize() builds the room without locking. An option must be
+ * used by one thread at a time; shared floors get this from RoomClaimQueue, which hands
+ * each option to exactly one party.
+ */
+public final class RoomOption {
+    private final RoomType type;
+    private final int floor;
+    private final long seed;
+    private final Set<GameCharacter> restingHeroes;
+    private Room room;
+
+    private RoomOption(RoomType type, int floor, long seed, Set<GameCharacter> restingHeroes, Room room) {
+        this.type = type;
+        this.floor = floor;
+        this.seed = seed;
+        this.restingHeroes = restingHeroes;
+        this.room = room;
+    }
+
+    /**
+     * A combat room; the resting set is read when the room is built, not now.
+     */
+    public static RoomOption combat(int floor, long seed, Set<GameCharacter> restingHeroes) {
+        return new RoomOption(RoomType.COMBAT, floor, seed, restingHeroes, null);
+    }
+
+    public static RoomOption chest(int floor, long seed) {
+        return new RoomOption(RoomType.CHEST, floor, seed, null, null);
+    }
+
+    /**
+     * The floor's one shop, which already exists and remembers whether it was visited.
+     */
+    public static RoomOption shop(int floor, Room shopRoom) {
+        return new RoomOption(RoomType.SHOP, floor, 0L, null, shopRoom);
+    }
+
+    /**
+     * Build the room (once; later calls return the same room).
+     */
+    public Room materialize() {
+        if (room == null) {
+            switch (type) {
+                case COMBAT:
+                    room = new CombatRoom(floor, restingHeroes, new SplittableRandom(seed));
+                    break;
+                case CHEST:
+                default:
+                    room = new ChestRoom(floor, new SplittableRandom(seed));
+                    break;
+            }
+        }
+        return room;
+    }
+
+    /**
+     * Build the room by recycling one of the pool's instances. The previous room handed
+     * out by the pool must be finished with.
+     */
+    public Room materialize(RoomPool pool) {
+        if (room == null) {
+            switch (type) {
+                case COMBAT:
+                    room = pool.combatRoom(floor, restingHeroes, new SplittableRandom(seed));
+                    break;
+                case CHEST:
+                default:
+                    room = pool.chestRoom(floor, new SplittableRandom(seed));
+                    break;
+            }
+        }
+        return room;
+    }
+
+    public RoomType getType() { return type; }
+    public int getFloor() { return floor; }
+    public long getSeed() { return seed; }
+    public String getRoomType() { return type.getDisplayName(); }
+
+    /**
+     * Same text the room itself would show, worked out without building it.
+     */
+    public String getDescription() {
+        if (room != null) {
+            return room.getDescription();
+        }
+        switch (type) {
+            case COMBAT:
+                return CombatRoom.describe(CombatRoom.enemyNameFor(new SplittableRandom(seed)), false);
+            case CHEST:
+            default:
+                return ChestRoom.describe(false);
+        }
+    }
+}
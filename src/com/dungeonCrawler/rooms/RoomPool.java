@@ -0,0 +1,36 @@
+package com.dungeonCrawler.rooms;
+
+import com.dungeonCrawler.characters.GameCharacter;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * One reusable CombatRoom and ChestRoom for a party that plays rooms strictly one after
+ * another (headless campaigns). Each request resets the instance instead of allocating
+ * a new room with its own lists, sets and journal, so a room handed out earlier must be
+ * finished with before the next request of the same type.
+ *
+ * Not thread-safe: one pool per campaign.
+ */
+public class RoomPool {
+    private CombatRoom combatRoom;
+    private ChestRoom chestRoom;
+
+    CombatRoom combatRoom(int floor, Set<GameCharacter> restingHeroes, SplittableRandom random) {
+        if (combatRoom == null) {
+            combatRoom = new CombatRoom(floor, restingHeroes, random);
+        } else {
+            combatRoom.reset(floor, restingHeroes, random);
+        }
+        return combatRoom;
+    }
+
+    ChestRoom chestRoom(int floor, SplittableRandom random) {
+        if (chestRoom == null) {
+            chestRoom = new ChestRoom(floor, random);
+        } else {
+            chestRoom.reset(floor, random);
+        }
+        return chestRoom;
+    }
+}
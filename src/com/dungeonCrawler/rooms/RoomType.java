@@ -0,0 +1,20 @@
+package com.dungeonCrawler.rooms;
+
+/**
+ * Kinds of rooms a floor can hold.
+ */
+public enum RoomType {
+    CHEST("Chest Room"),
+    COMBAT("Combat Room"),
+    SHOP("Shop Room");
+    
+    private final String displayName;
+    
+    RoomType(String displayName) {
+        this.displayName = displayName;
+    }
+    
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -2,22 +2,34 @@ package com.dungeonCrawler.rooms;
 
 import com.dungeonCrawler.characters.GameCharacter;
 import com.dungeonCrawler.items.Equipment;
-import com.dungeonCrawler.items.EquipmentType;
-import com.dungeonCrawler.items.Potion;
-import java.util.Random;
+import com.dungeonCrawler.items.LootTable;
+import com.dungeonCrawler.utils.RandomStreams;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Shop room - Purchase items and potions.
- * Can only be used once per floor.
+ * Can only be used once per floor. Offers and prices come from the floor's LootTable.
+ * The first hero to mark the shop visited is its only customer, so the sale itself runs
+ * without holding a lock.
  */
 public class ShopRoom implements Room {
-    private Random random;
-    private boolean visited;
+    private SplittableRandom random;
+    private final LootTable loot;
+    private final AtomicBoolean visited = new AtomicBoolean();
     private String shopkeeper;
     
     public ShopRoom() {
-        this.random = new Random();
-        this.visited = false;
+        this(RandomStreams.global().split());
+    }
+    
+    public ShopRoom(SplittableRandom random) {
+        this(1, random);
+    }
+    
+    public ShopRoom(int floorNumber, SplittableRandom random) {
+        this.random = random;
+        this.loot = LootTable.forFloor(floorNumber);
         this.shopkeeper = "Eldric";
     }
     
@@ -25,51 +37,57 @@ public class ShopRoom implements Room {
     public void enter(GameCharacter character) {
         character.addLog(character.getCharacterName() + " enters the mysterious shop of " + shopkeeper + "!");
         
-        synchronized(this) {
-            if (!visited) {
-                visited = true;
-                
-                // Random shop event
-                int shopEvent = random.nextInt(2);
-                switch(shopEvent) {
-                    case 0: // Healing service
-                        character.addLog(shopkeeper + " offers healing! Full restoration for 50 gold.");
-                        if (character.spendGold(50)) {
-                            character.heal(character.getMaxHealth());
-                            character.restoreMana(character.getMaxMana());
-                            character.addLog(character.getCharacterName() + " is fully healed!");
-                        } else {
-                            character.addLog("Not enough gold for healing!");
-                        }
-                        break;
-                    case 1: // Equipment sale
-                        EquipmentType[] types = EquipmentType.values();
-                        EquipmentType eqType = types[random.nextInt(types.length)];
-                        Equipment equipment = new Equipment(eqType, character.getLevel() + 1);
-                        int price = eqType.getValue() * 20;
-                        
-                        character.addLog(shopkeeper + " offers " + equipment.toString() + " for " + price + " gold.");
-                        if (character.spendGold(price)) {
-                            character.getInventory().addEquipment(equipment);
-                            character.addLog(character.getCharacterName() + " purchased the item!");
-                        } else {
-                            character.addLog("Not enough gold for purchase!");
-                        }
-                        break;
+        if (!markVisited()) {
+            character.addLog("The shop is already closed!");
+            return;
+        }
+        
+        // Random shop event; only the first customer gets here
+        switch(loot.rollShopOffer(random)) {
+            case HEALING:
+                int healingPrice = loot.getHealingPrice();
+                character.addLog(shopkeeper + " offers healing! Full restoration for " + healingPrice + " gold.");
+                if (character.spendGold(healingPrice)) {
+                    character.heal(character.getMaxHealth());
+                    character.restoreMana(character.getMaxMana());
+                    character.addLog(character.getCharacterName() + " is fully healed!");
+                } else {
+                    character.addLog("Not enough gold for healing!");
                 }
-            } else {
-                character.addLog("The shop is already closed!");
-            }
+                break;
+            case EQUIPMENT:
+                Equipment equipment = loot.rollShopItem(random, character.getLevel());
+                int price = loot.getPrice(equipment.getType());
+
+                character.addLog(shopkeeper + " offers " + equipment.toString() + " for " + price + " gold.");
+                if (character.spendGold(price)) {
+                    character.getInventory().addEquipment(equipment);
+                    character.addLog(character.getCharacterName() + " purchased the item!");
+                } else {
+                    character.addLog("Not enough gold for purchase!");
+                }
+                break;
         }
     }
     
+    /**
+     * Close the shop. Returns true only for the one caller that closed it.
+     */
+    public boolean markVisited() {
+        return visited.compareAndSet(false, true);
+    }
+    
+    public boolean isVisited() {
+        return visited.get();
+    }
+    
     @Override
     public String getRoomType() {
-        return "Shop Room";
+        return RoomType.SHOP.getDisplayName();
     }
     
     @Override
     public String getDescription() {
-        return (visited ? "The shop is closed." : "A mysterious shop run by " + shopkeeper + ".");
+        return (visited.get() ? "The shop is closed." : "A mysterious shop run by " + shopkeeper + ".");
     }
 }
@@ -0,0 +1,42 @@
+package com.dungeonCrawler.simulation;
+
+/**
+ * Outcome of a single headless campaign.
+ */
+public class CampaignResult {
+    private final boolean victory;
+    private final int finalFloor;
+    private final int battlesWon;
+    private final int highestLevel;
+    private final int prefetchHits;
+    private final int prefetchMisses;
+
+    public CampaignResult(boolean victory, int finalFloor, int battlesWon, int highestLevel) {
+        this(victory, finalFloor, battlesWon, highestLevel, 0, 0);
+    }
+
+    public CampaignResult(boolean victory, int finalFloor, int battlesWon, int highestLevel,
+                          int prefetchHits, int prefetchMisses) {
+        this.victory = victory;
+        this.finalFloor = finalFloor;
+        this.battlesWon = battlesWon;
+        this.highestLevel = highestLevel;
+        this.prefetchHits = prefetchHits;
+        this.prefetchMisses = prefetchMisses;
+    }
+
+    public boolean isVictory() { return victory; }
+
+    /**
+     * Floor the party was on when the campaign ended (the floor of death for a loss).
+     */
+    public int getFinalFloor() { return finalFloor; }
+    public int getBattlesWon() { return battlesWon; }
+    public int getHighestLevel() { return highestLevel; }
+
+    /**
+     * Floor transitions where the background prefetch had the floor ready.
+     */
+    public int getPrefetchHits() { return prefetchHits; }
+    public int getPrefetchMisses() { return prefetchMisses; }
+}
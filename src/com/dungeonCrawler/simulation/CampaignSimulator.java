@@ -0,0 +1,77 @@
+package com.dungeonCrawler.simulation;
+
+import com.dungeonCrawler.characters.BattleLog;
+import com.dungeonCrawler.utils.BufferedConsoleSink;
+import com.dungeonCrawler.utils.OutputSink;
+import com.dungeonCrawler.utils.RandomStreams;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Headless batch simulator for balance regression.
+ * Runs independent full campaigns in parallel across all cores with no console I/O
+ * and reports throughput, win rate and the floor-of-death distribution.
+ *
+ * Campaign seeds are derived up front from one master seed, so a batch gives the same
+ * results no matter how campaigns are scheduled across threads.
+ *
+ * Usage: java com.dungeonCrawler.simulation.CampaignSimulator [campaigns] [threads] [seed]
+ */
+public class CampaignSimulator {
+    private final int threads;
+
+    public CampaignSimulator(int threads) {
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * Run the given number of campaigns and aggregate their results.
+     */
+    public SimulationReport run(int campaigns, long masterSeed) throws InterruptedException {
+        RandomStreams master = new RandomStreams(masterSeed);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            long start = System.nanoTime();
+            List<Future<CampaignResult>> futures = new ArrayList<>(campaigns);
+            for (int i = 0; i < campaigns; i++) {
+                RandomStreams campaignStreams = master.fork();
+                futures.add(pool.submit(() -> new HeadlessCampaign(campaignStreams).run()));
+            }
+
+            List<CampaignResult> results = new ArrayList<>(campaigns);
+            for (Future<CampaignResult> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Campaign failed", e.getCause());
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            return new SimulationReport(results, HeadlessCampaign.MAX_FLOORS, elapsed);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Main entry point.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int campaigns = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : RandomStreams.global().getSeed();
+
+        // Nobody reads the battle logs headless: keep structured events only
+        BattleLog.setTextRendering(false);
+
+        OutputSink output = BufferedConsoleSink.stdout();
+        output.println("Simulating " + campaigns + " campaigns on " + threads + " threads (seed " + seed + ")...");
+        output.flush();
+        SimulationReport report = new CampaignSimulator(threads).run(campaigns, seed);
+        report.print(output);
+    }
+}
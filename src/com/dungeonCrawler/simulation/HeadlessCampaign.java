@@ -0,0 +1,190 @@
+package com.dungeonCrawler.simulation;
+
+import com.dungeonCrawler.boss.Boss;
+import com.dungeonCrawler.boss.BossFactory;
+import com.dungeonCrawler.characters.GameCharacter;
+import com.dungeonCrawler.characters.GearOptimizer;
+import com.dungeonCrawler.characters.Knight;
+import com.dungeonCrawler.characters.Thief;
+import com.dungeonCrawler.characters.Wizard;
+import com.dungeonCrawler.engine.BotPolicy;
+import com.dungeonCrawler.engine.GameEngine;
+import com.dungeonCrawler.engine.PlayerPolicy;
+import com.dungeonCrawler.rooms.ChestRoom;
+import com.dungeonCrawler.rooms.CombatRoom;
+import com.dungeonCrawler.rooms.Room;
+import com.dungeonCrawler.rooms.RoomOption;
+import com.dungeonCrawler.rooms.RoomPool;
+import com.dungeonCrawler.rooms.ShopRoom;
+import com.dungeonCrawler.utils.OutputSink;
+import com.dungeonCrawler.utils.RandomStreams;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * A single 15-floor campaign played without any console I/O.
+ * Mirrors the flow of DungeonCrawlerApp (boss floors, five room rounds per floor,
+ * party rest) with rest and room decisions taken from a PlayerPolicy; after every room
+ * the party's gear is re-optimized. Chosen rooms are recycled from a RoomPool, since
+ * rooms are played strictly one at a time.
+ * All randomness comes from one RandomStreams, so a campaign replays exactly from its seed.
+ */
+public class HeadlessCampaign {
+    public static final int MAX_FLOORS = 15;
+    private static final int ROOMS_PER_FLOOR = 5;
+
+    private final GameCharacter[] characters;
+    private final GameEngine engine;
+    private final RandomStreams streams;
+    private final SplittableRandom random;
+    private final PlayerPolicy policy;
+    private final RoomPool roomPool;
+
+    public HeadlessCampaign(long seed) {
+        this(new RandomStreams(seed));
+    }
+
+    public HeadlessCampaign(RandomStreams streams) {
+        this(streams, new BotPolicy(streams.split()));
+    }
+
+    public HeadlessCampaign(RandomStreams streams, PlayerPolicy policy) {
+        this.streams = streams;
+        this.characters = new GameCharacter[] {
+            new Knight("Theron", streams.split()),
+            new Thief("Shadowblade", streams.split()),
+            new Wizard("Arcanis", streams.split())
+        };
+        this.engine = new GameEngine(characters, MAX_FLOORS, streams.fork());
+        this.engine.setOutput(OutputSink.NULL);
+        this.random = streams.split();
+        this.policy = policy;
+        this.roomPool = new RoomPool();
+    }
+
+    /**
+     * Play the campaign to completion and report the outcome.
+     */
+    public CampaignResult run() {
+        boolean victory = false;
+
+        engine.generateFloorRooms();
+        while (engine.isGameActive() && engine.getCurrentFloor() <= engine.getMaxFloors()) {
+            int floor = engine.getCurrentFloor();
+            if (floor % 5 == 0 && floor < engine.getMaxFloors()) {
+                fightBoss(BossFactory.createFloorBoss(floor, streams.split()));
+                if (!engine.isGameActive()) break;
+            } else if (floor == engine.getMaxFloors()) {
+                Boss finalBoss = BossFactory.createFinalBoss(streams.split());
+                fightBoss(finalBoss);
+                victory = finalBoss.isDefeated() && isPartyAlive();
+                break;
+            }
+
+            playFloor();
+
+            if (!isPartyAlive()) {
+                engine.setGameActive(false);
+            }
+            if (engine.isGameActive()) {
+                engine.nextFloor();
+            }
+        }
+
+        int battles = 0;
+        int highestLevel = 0;
+        for (GameCharacter c : characters) {
+            battles += c.getBattlesWon();
+            highestLevel = Math.max(highestLevel, c.getLevel());
+        }
+        return new CampaignResult(victory, Math.min(engine.getCurrentFloor(), engine.getMaxFloors()), battles, highestLevel,
+            engine.getPrefetchHits(), engine.getPrefetchMisses());
+    }
+
+    private void fightBoss(Boss boss) {
+        engine.runBossBattle(boss);
+        clearLogs();
+    }
+
+    private void playFloor() {
+        Set<GameCharacter> restingHeroes = new HashSet<>();
+        for (int round = 1; round <= ROOMS_PER_FLOOR && isPartyAlive(); round++) {
+            List<RoomOption> options = engine.generateRoomOptions(restingHeroes);
+            if (options.isEmpty()) break; // whole floor explored
+
+            // Only explore and rest matter headless; menus without side effects are skipped
+            boolean rested = false;
+            if (policy.chooseMainAction(characters, true) == 4) {
+                for (GameCharacter hero : characters) {
+                    if (hero.isCharacterAlive()) {
+                        hero.heal(25);
+                        hero.restoreMana(hero.getMaxMana());
+                        restingHeroes.add(hero);
+                    }
+                }
+                rested = true;
+            }
+
+            int choice = policy.chooseRoom(options, characters);
+            RoomOption option = options.get(Math.max(1, Math.min(choice, options.size())) - 1);
+            engine.exploreRoom(option);
+            Room chosen = option.materialize(roomPool);
+            if (chosen instanceof ShopRoom) {
+                GameCharacter buyer = richestLivingHero();
+                if (buyer != null) {
+                    chosen.enter(buyer);
+                }
+            } else if (chosen instanceof ChestRoom) {
+                List<GameCharacter> alive = livingHeroes();
+                chosen.enter(alive.get(random.nextInt(alive.size())));
+            } else if (chosen instanceof CombatRoom) {
+                CombatRoom combat = (CombatRoom) chosen;
+                if (rested) {
+                    combat.applyEqualDamageToAll(characters);
+                } else {
+                    combat.engageParty(characters);
+                }
+            }
+
+            GearOptimizer.optimize(characters);
+            restingHeroes.clear();
+            clearLogs();
+        }
+    }
+
+    private GameCharacter richestLivingHero() {
+        GameCharacter richest = null;
+        for (GameCharacter c : characters) {
+            if (c.isCharacterAlive() && (richest == null || c.getGold() > richest.getGold())) {
+                richest = c;
+            }
+        }
+        return richest;
+    }
+
+    private List<GameCharacter> livingHeroes() {
+        List<GameCharacter> alive = new ArrayList<>();
+        for (GameCharacter c : characters) {
+            if (c.isCharacterAlive()) {
+                alive.add(c);
+            }
+        }
+        return alive;
+    }
+
+    private boolean isPartyAlive() {
+        for (GameCharacter c : characters) {
+            if (c.isCharacterAlive()) return true;
+        }
+        return false;
+    }
+
+    private void clearLogs() {
+        for (GameCharacter c : characters) {
+            c.getBattleLog().clear();
+        }
+    }
+}
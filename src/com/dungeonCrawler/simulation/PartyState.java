@@ -0,0 +1,375 @@
+package com.dungeonCrawler.simulation;
+
+import com.dungeonCrawler.characters.GameCharacter;
+import com.dungeonCrawler.characters.Knight;
+import com.dungeonCrawler.characters.Thief;
+import com.dungeonCrawler.characters.Wizard;
+import com.dungeonCrawler.items.EquipmentStats;
+import java.util.SplittableRandom;
+
+/**
+ * Struct-of-arrays state for many parties at once, for Monte Carlo runs.
+ * Hero i of party p lives at index p * partySize + i in every array; there are no
+ * per-hero objects, inventories, logs or random streams. Max health and max mana
+ * are derived from class and level, as leveling in GameCharacter does. Equipment is
+ * kept only as each hero's combined gear bonuses (attack, defence, dodge), taken from
+ * the inventory's EquipmentStats on load.
+ *
+ * The combat and leveling routines follow CombatRoom and GameCharacter rule for rule,
+ * gear included, but draw from one stream per call, so results match the object model
+ * statistically rather than roll for roll.
+ */
+public class PartyState {
+    public static final int KNIGHT = 0;
+    public static final int THIEF = 1;
+    public static final int WIZARD = 2;
+
+    private static final int[] BASE_HEALTH = {200, 120, 100};
+    private static final int[] BASE_MANA = {50, 80, 200};
+    private static final int HEALTH_PER_LEVEL = 25;
+    private static final int MANA_PER_LEVEL = 10;
+    private static final int STARTING_GOLD = 100;
+    private static final int THIEF_DODGE_CHANCE = 45;
+    private static final int THIEF_CRITICAL_CHANCE = 25;
+    private static final int ENEMY_KINDS = 6;
+
+    private final int parties;
+    private final int partySize;
+    private final int[] classId;
+    private final int[] health;
+    private final int[] mana;
+    private final int[] level;
+    private final int[] experience;
+    private final int[] gold;
+    private final int[] battlesWon;
+    private final boolean[] alive;
+    private final int[] gearAttack;
+    private final int[] gearDefence;
+    private final int[] gearDodge;
+
+    public PartyState(int parties, int partySize) {
+        this.parties = parties;
+        this.partySize = partySize;
+        int heroes = parties * partySize;
+        this.classId = new int[heroes];
+        this.health = new int[heroes];
+        this.mana = new int[heroes];
+        this.level = new int[heroes];
+        this.experience = new int[heroes];
+        this.gold = new int[heroes];
+        this.battlesWon = new int[heroes];
+        this.alive = new boolean[heroes];
+        this.gearAttack = new int[heroes];
+        this.gearDefence = new int[heroes];
+        this.gearDodge = new int[heroes];
+    }
+
+    /**
+     * Parties of a Knight, a Thief and a Wizard, as the game starts them.
+     */
+    public static PartyState standardParties(int parties) {
+        PartyState state = new PartyState(parties, 3);
+        for (int p = 0; p < parties; p++) {
+            state.initHero(state.index(p, 0), KNIGHT);
+            state.initHero(state.index(p, 1), THIEF);
+            state.initHero(state.index(p, 2), WIZARD);
+        }
+        return state;
+    }
+
+    /**
+     * Reset a hero to the starting stats of the given class.
+     */
+    public void initHero(int hero, int heroClass) {
+        classId[hero] = heroClass;
+        level[hero] = 1;
+        experience[hero] = 0;
+        health[hero] = BASE_HEALTH[heroClass];
+        mana[hero] = BASE_MANA[heroClass];
+        gold[hero] = STARTING_GOLD;
+        battlesWon[hero] = 0;
+        alive[hero] = true;
+        setGear(hero, EquipmentStats.NONE);
+    }
+
+    /**
+     * Set a hero's combined gear bonuses.
+     */
+    public void setGear(int hero, EquipmentStats gear) {
+        gearAttack[hero] = gear.getAttack();
+        gearDefence[hero] = gear.getDefence();
+        gearDodge[hero] = gear.getDodge();
+    }
+
+    // ===== Converters to and from the object model =====
+
+    /**
+     * Copy a party of GameCharacters into a new single-party state.
+     */
+    public static PartyState fromCharacters(GameCharacter[] party) {
+        PartyState state = new PartyState(1, party.length);
+        state.load(0, party);
+        return state;
+    }
+
+    /**
+     * Overwrite party p with the stats of the given characters.
+     */
+    public void load(int party, GameCharacter[] characters) {
+        for (int i = 0; i < partySize; i++) {
+            GameCharacter c = characters[i];
+            int hero = index(party, i);
+            classId[hero] = classIdOf(c);
+            health[hero] = c.getHealth();
+            mana[hero] = c.getMana();
+            level[hero] = c.getLevel();
+            experience[hero] = c.getExperience();
+            gold[hero] = c.getGold();
+            battlesWon[hero] = c.getBattlesWon();
+            alive[hero] = c.isCharacterAlive();
+            setGear(hero, c.getInventory().getEquipmentStats());
+        }
+    }
+
+    /**
+     * Build GameCharacters with the stats of party p (names are generated). Gear bonuses
+     * are not turned back into items, so the characters start unequipped.
+     */
+    public GameCharacter[] toCharacters(int party) {
+        GameCharacter[] characters = new GameCharacter[partySize];
+        for (int i = 0; i < partySize; i++) {
+            int hero = index(party, i);
+            GameCharacter c = newCharacter(classId[hero], "Hero " + (hero + 1));
+            // leveling restores health and mana, so apply losses afterwards
+            c.addExperienceSilent((level[hero] - 1) * 100 + experience[hero]);
+            if (!alive[hero]) {
+                c.takeDamage(c.getHealth());
+            } else if (health[hero] < c.getHealth()) {
+                c.takeDamage(c.getHealth() - health[hero]);
+            }
+            c.deductMana(c.getMana() - mana[hero]);
+            c.spendGold(c.getGold());
+            c.addGoldSilent(gold[hero]);
+            for (int b = 0; b < battlesWon[hero]; b++) {
+                c.winBattle();
+            }
+            c.getBattleLog().clear();
+            characters[i] = c;
+        }
+        return characters;
+    }
+
+    private static int classIdOf(GameCharacter c) {
+        switch (c.getCharacterClass()) {
+            case "Knight":
+                return KNIGHT;
+            case "Thief":
+                return THIEF;
+            case "Wizard":
+                return WIZARD;
+            default:
+                throw new IllegalArgumentException("Unknown character class: " + c.getCharacterClass());
+        }
+    }
+
+    private static GameCharacter newCharacter(int heroClass, String name) {
+        switch (heroClass) {
+            case KNIGHT:
+                return new Knight(name);
+            case THIEF:
+                return new Thief(name);
+            default:
+                return new Wizard(name);
+        }
+    }
+
+    // ===== Vitals and leveling (GameCharacter equivalents) =====
+
+    public void heal(int hero, int amount) {
+        health[hero] = Math.min(health[hero] + amount, getMaxHealth(hero));
+    }
+
+    public void takeDamage(int hero, int amount) {
+        health[hero] -= amount;
+        if (health[hero] <= 0) {
+            health[hero] = 0;
+            alive[hero] = false;
+        }
+    }
+
+    public void restoreMana(int hero, int amount) {
+        mana[hero] = Math.min(mana[hero] + amount, getMaxMana(hero));
+    }
+
+    public boolean deductMana(int hero, int amount) {
+        if (mana[hero] >= amount) {
+            mana[hero] -= amount;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Same as GameCharacter.addExperienceSilent: every 100 points is a level, and each
+     * level fully restores health and mana.
+     */
+    public void addExperience(int hero, int amount) {
+        int total = experience[hero] + amount;
+        int levels = total / 100;
+        experience[hero] = total % 100;
+        if (levels > 0) {
+            level[hero] += levels;
+            health[hero] = getMaxHealth(hero);
+            mana[hero] = getMaxMana(hero);
+        }
+    }
+
+    /**
+     * Party rest: heal 25 HP and refill mana for every living hero.
+     */
+    public void rest(int party) {
+        for (int hero = index(party, 0), end = hero + partySize; hero < end; hero++) {
+            if (alive[hero]) {
+                heal(hero, 25);
+                restoreMana(hero, getMaxMana(hero));
+            }
+        }
+    }
+
+    // ===== Combat (CombatRoom equivalents) =====
+
+    /**
+     * Fight one combat room on the given floor with every living hero of the party.
+     * Returns the total gold earned, or 0 if the party fell.
+     */
+    public int fightCombat(int party, int floor, SplittableRandom rng) {
+        rng.nextInt(ENEMY_KINDS); // enemy kind only matters for narration
+        int enemyHealth = 50 + (floor * 20) + rng.nextInt(30);
+        int enemyAttack = 5 + floor;
+        int first = index(party, 0);
+        int end = first + partySize;
+
+        while (true) {
+            int living = countLiving(party);
+            if (living == 0) {
+                return 0;
+            }
+
+            int totalDamage = 0;
+            for (int hero = first; hero < end; hero++) {
+                if (alive[hero]) {
+                    totalDamage += heroAttack(hero, rng);
+                }
+            }
+
+            enemyHealth -= totalDamage;
+            if (enemyHealth <= 0) {
+                int goldEarned = 0;
+                for (int hero = first; hero < end; hero++) {
+                    if (alive[hero]) {
+                        int reward = rng.nextInt(20) + 30;
+                        addExperience(hero, 50);
+                        gold[hero] += reward;
+                        battlesWon[hero]++;
+                        goldEarned += reward;
+                    }
+                }
+                return goldEarned;
+            }
+
+            // enemy hits a random living hero; gear dodge first, then the Thief's own
+            int target = nthLiving(party, rng.nextInt(living));
+            int incoming = enemyAttack + rng.nextInt(8);
+            if (gearDodge[target] > 0 && rng.nextInt(100) < gearDodge[target]) {
+                continue;
+            }
+            boolean dodged = classId[target] == THIEF && rng.nextInt(100) < THIEF_DODGE_CHANCE;
+            if (!dodged) {
+                // same as EquipmentStats.reduceDamage: at least 1 point gets through
+                takeDamage(target, Math.max(1, incoming - gearDefence[target]));
+            }
+        }
+    }
+
+    /**
+     * Enemy strikes every living hero once for the same damage (combat skipped by resting).
+     */
+    public int applyEqualDamageToAll(int party, int floor, SplittableRandom rng) {
+        int damage = 5 + floor + rng.nextInt(8);
+        for (int hero = index(party, 0), end = hero + partySize; hero < end; hero++) {
+            if (alive[hero]) {
+                takeDamage(hero, damage);
+            }
+        }
+        return damage;
+    }
+
+    private int heroAttack(int hero, SplittableRandom rng) {
+        int baseDamage = rng.nextInt(12) + 8 + gearAttack[hero];
+        switch (classId[hero]) {
+            case WIZARD:
+                if (mana[hero] >= 20) {
+                    mana[hero] -= 20;
+                    return baseDamage + 15;
+                }
+                deductMana(hero, 5);
+                return baseDamage;
+            case THIEF:
+                if (rng.nextInt(100) < 20 && deductMana(hero, 15)) {
+                    return baseDamage / 2;
+                }
+                if (rng.nextInt(100) < THIEF_CRITICAL_CHANCE) {
+                    return baseDamage * 2;
+                }
+                return baseDamage;
+            case KNIGHT:
+            default:
+                if (rng.nextInt(100) < 30 && deductMana(hero, 25)) {
+                    return baseDamage / 2;
+                }
+                return baseDamage;
+        }
+    }
+
+    private int nthLiving(int party, int n) {
+        for (int hero = index(party, 0), end = hero + partySize; hero < end; hero++) {
+            if (alive[hero] && n-- == 0) {
+                return hero;
+            }
+        }
+        throw new IllegalStateException("No living hero at position " + n);
+    }
+
+    // ===== Queries =====
+
+    public int countLiving(int party) {
+        int living = 0;
+        for (int hero = index(party, 0), end = hero + partySize; hero < end; hero++) {
+            if (alive[hero]) {
+                living++;
+            }
+        }
+        return living;
+    }
+
+    public boolean isPartyAlive(int party) {
+        return countLiving(party) > 0;
+    }
+
+    public int index(int party, int slot) { return party * partySize + slot; }
+    public int getParties() { return parties; }
+    public int getPartySize() { return partySize; }
+    public int getClassId(int hero) { return classId[hero]; }
+    public int getHealth(int hero) { return health[hero]; }
+    public int getMaxHealth(int hero) { return BASE_HEALTH[classId[hero]] + (level[hero] - 1) * HEALTH_PER_LEVEL; }
+    public int getMana(int hero) { return mana[hero]; }
+    public int getMaxMana(int hero) { return BASE_MANA[classId[hero]] + (level[hero] - 1) * MANA_PER_LEVEL; }
+    public int getLevel(int hero) { return level[hero]; }
+    public int getExperience(int hero) { return experience[hero]; }
+    public int getGold(int hero) { return gold[hero]; }
+    public int getBattlesWon(int hero) { return battlesWon[hero]; }
+    public boolean isAlive(int hero) { return alive[hero]; }
+    public int getGearAttack(int hero) { return gearAttack[hero]; }
+    public int getGearDefence(int hero) { return gearDefence[hero]; }
+    public int getGearDodge(int hero) { return gearDodge[hero]; }
+}
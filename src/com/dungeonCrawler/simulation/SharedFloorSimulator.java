@@ -0,0 +1,240 @@
+package com.dungeonCrawler.simulation;
+
+import com.dungeonCrawler.characters.BattleLog;
+import com.dungeonCrawler.characters.GameCharacter;
+import com.dungeonCrawler.characters.Knight;
+import com.dungeonCrawler.characters.Thief;
+import com.dungeonCrawler.characters.Wizard;
+import com.dungeonCrawler.engine.FloorState;
+import com.dungeonCrawler.engine.GameEngine;
+import com.dungeonCrawler.rooms.CombatRoom;
+import com.dungeonCrawler.rooms.Room;
+import com.dungeonCrawler.rooms.RoomOption;
+import com.dungeonCrawler.utils.Banners;
+import com.dungeonCrawler.utils.BufferedConsoleSink;
+import com.dungeonCrawler.utils.OutputSink;
+import com.dungeonCrawler.utils.RandomStreams;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Throughput harness for many parties exploring the same floors at once. Every party runs
+ * on its own thread and claims rooms from the shared GameEngine until the floor is used
+ * up; the first party to notice moves everyone to the next floor.
+ *
+ * Each room must be played exactly once, so the run also checks that no room was handed
+ * out twice and that every room of every floor was claimed; if not, it prints FAILED
+ * and main exits with status 1.
+ *
+ * With --global-lock every claim and room is played under one engine-wide lock, the way
+ * the engine serialized processRoom before, for comparison.
+ *
+ * Usage: java com.dungeonCrawler.simulation.SharedFloorSimulator [parties] [floors] [roomsPerFloor] [seed] [--global-lock]
+ */
+public class SharedFloorSimulator {
+    private final int parties;
+    private final int floors;
+    private final int roomsPerFloor;
+    private final boolean globalLock;
+
+    private final Set<RoomOption> claimed = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger duplicates = new AtomicInteger();
+    private final AtomicInteger roomsPlayed = new AtomicInteger();
+    private OutputSink output = BufferedConsoleSink.stdout();
+
+    public SharedFloorSimulator(int parties, int floors, int roomsPerFloor, boolean globalLock) {
+        this.parties = parties;
+        this.floors = floors;
+        this.roomsPerFloor = roomsPerFloor;
+        this.globalLock = globalLock;
+    }
+
+    /**
+     * Play every floor with all parties and print the throughput and claim checks.
+     * Returns whether every room was played exactly once.
+     */
+    public boolean run(long seed) throws InterruptedException {
+        RandomStreams streams = new RandomStreams(seed);
+        List<GameCharacter[]> teams = new ArrayList<>(parties);
+        GameCharacter[] everyone = new GameCharacter[parties * 3];
+        for (int p = 0; p < parties; p++) {
+            GameCharacter[] party = {
+                new Knight("Theron-" + p, streams.split()),
+                new Thief("Shadowblade-" + p, streams.split()),
+                new Wizard("Arcanis-" + p, streams.split())
+            };
+            teams.add(party);
+            System.arraycopy(party, 0, everyone, p * 3, 3);
+        }
+
+        GameEngine engine = new GameEngine(everyone, floors, streams.fork(), roomsPerFloor);
+        engine.setOutput(OutputSink.NULL);
+        engine.generateFloorRooms();
+
+        ExecutorService pool = Executors.newFixedThreadPool(parties);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>(parties);
+            for (GameCharacter[] party : teams) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return explore(engine, party);
+                }));
+            }
+
+            long begin = System.nanoTime();
+            start.countDown();
+            int fewest = Integer.MAX_VALUE;
+            int most = 0;
+            for (Future<Integer> future : futures) {
+                try {
+                    int rooms = future.get();
+                    fewest = Math.min(fewest, rooms);
+                    most = Math.max(most, rooms);
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Party failed", e.getCause());
+                }
+            }
+            long elapsed = System.nanoTime() - begin;
+
+            int expected = floors * roomsPerFloor;
+            double seconds = elapsed / 1_000_000_000.0;
+            output.println("\n" + Banners.DOUBLE_LINE);
+            output.println("*** SHARED FLOOR REPORT ***" + (globalLock ? " (global lock)" : ""));
+            output.println(Banners.DOUBLE_LINE);
+            output.println("Parties: " + parties + " | Floors: " + floors + " | Rooms per floor: " + roomsPerFloor);
+            output.println(String.format("Elapsed: %.2f s", seconds));
+            output.println(String.format("Throughput: %.0f rooms/sec", roomsPlayed.get() / seconds));
+            output.println("Rooms played: " + roomsPlayed.get() + "/" + expected
+                + " | Duplicate claims: " + duplicates.get());
+            output.println("Rooms per party: " + fewest + " to " + most);
+            boolean passed = duplicates.get() == 0 && roomsPlayed.get() == expected && claimed.size() == expected;
+            if (!passed) {
+                output.println("FAILED: expected every one of " + expected + " rooms played exactly once, got "
+                    + roomsPlayed.get() + " played, " + claimed.size() + " distinct, "
+                    + duplicates.get() + " duplicate claims");
+            }
+            output.println(Banners.DOUBLE_LINE + "\n");
+            output.flush();
+            return passed;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Where the report goes; OutputSink.NULL silences it.
+     */
+    public void setOutput(OutputSink output) {
+        this.output = output;
+    }
+
+    /**
+     * One party's loop: claim, play, repeat; advance the floor once it runs dry.
+     * Returns the number of rooms this party played.
+     */
+    private int explore(GameEngine engine, GameCharacter[] party) {
+        int played = 0;
+        while (isAlive(party)) {
+            FloorState floor = engine.getFloorState();
+            if (!floor.isGameActive() || floor.getFloor() > engine.getMaxFloors()) {
+                break;
+            }
+            boolean playedRoom;
+            if (globalLock) {
+                synchronized (engine) {
+                    playedRoom = claimAndPlay(engine, floor, party);
+                }
+            } else {
+                playedRoom = claimAndPlay(engine, floor, party);
+            }
+            if (playedRoom) {
+                played++;
+            } else {
+                engine.nextFloor(floor.getFloor());
+            }
+        }
+        return played;
+    }
+
+    private boolean claimAndPlay(GameEngine engine, FloorState floor, GameCharacter[] party) {
+        RoomOption option = floor.getClaims().claim();
+        if (option == null) {
+            return false;
+        }
+        if (!claimed.add(option)) {
+            duplicates.incrementAndGet();
+        }
+
+        Room room = option.materialize();
+        if (room instanceof CombatRoom) {
+            ((CombatRoom) room).engageParty(party);
+        } else {
+            GameCharacter leader = firstLiving(party);
+            if (leader != null) {
+                engine.processRoom(leader, room);
+            }
+        }
+
+        // rest between rooms so parties last through every floor
+        for (GameCharacter hero : party) {
+            if (hero.isCharacterAlive()) {
+                hero.heal(hero.getMaxHealth());
+                hero.restoreMana(hero.getMaxMana());
+            }
+            hero.getBattleLog().clear();
+        }
+        roomsPlayed.incrementAndGet();
+        return true;
+    }
+
+    private static GameCharacter firstLiving(GameCharacter[] party) {
+        for (GameCharacter hero : party) {
+            if (hero.isCharacterAlive()) {
+                return hero;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isAlive(GameCharacter[] party) {
+        return firstLiving(party) != null;
+    }
+
+    /**
+     * Main entry point.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        List<String> numbers = new ArrayList<>();
+        boolean globalLock = false;
+        for (String arg : args) {
+            if (arg.equals("--global-lock")) {
+                globalLock = true;
+            } else {
+                numbers.add(arg);
+            }
+        }
+        int parties = numbers.size() > 0 ? Integer.parseInt(numbers.get(0)) : 64;
+        int floors = numbers.size() > 1 ? Integer.parseInt(numbers.get(1)) : HeadlessCampaign.MAX_FLOORS;
+        int roomsPerFloor = numbers.size() > 2 ? Integer.parseInt(numbers.get(2)) : 256;
+        long seed = numbers.size() > 3 ? Long.parseLong(numbers.get(3)) : RandomStreams.global().getSeed();
+
+        // Nobody reads the battle logs headless: keep structured events only
+        BattleLog.setTextRendering(false);
+
+        OutputSink output = BufferedConsoleSink.stdout();
+        output.println("Exploring " + floors + " shared floors with " + parties + " parties (seed " + seed + ")...");
+        output.flush();
+        if (!new SharedFloorSimulator(parties, floors, roomsPerFloor, globalLock).run(seed)) {
+            System.exit(1);
+        }
+    }
+}
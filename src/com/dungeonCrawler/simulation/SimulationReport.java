@@ -0,0 +1,96 @@
+package com.dungeonCrawler.simulation;
+
+import com.dungeonCrawler.utils.Banners;
+import com.dungeonCrawler.utils.OutputSink;
+import java.util.List;
+
+/**
+ * Aggregated statistics for a batch of headless campaigns.
+ */
+public class SimulationReport {
+    private final int campaigns;
+    private final long elapsedNanos;
+    private final int victories;
+    private final int[] deathsByFloor;
+    private final double averageBattlesWon;
+    private final double averageHighestLevel;
+    private final long prefetchHits;
+    private final long prefetchMisses;
+
+    public SimulationReport(List<CampaignResult> results, int maxFloors, long elapsedNanos) {
+        this.campaigns = results.size();
+        this.elapsedNanos = elapsedNanos;
+        this.deathsByFloor = new int[maxFloors + 1];
+
+        int wins = 0;
+        long battles = 0;
+        long levels = 0;
+        long hits = 0;
+        long misses = 0;
+        for (CampaignResult result : results) {
+            if (result.isVictory()) {
+                wins++;
+            } else {
+                deathsByFloor[Math.min(result.getFinalFloor(), maxFloors)]++;
+            }
+            battles += result.getBattlesWon();
+            levels += result.getHighestLevel();
+            hits += result.getPrefetchHits();
+            misses += result.getPrefetchMisses();
+        }
+        this.prefetchHits = hits;
+        this.prefetchMisses = misses;
+        this.victories = wins;
+        this.averageBattlesWon = campaigns == 0 ? 0 : (double) battles / campaigns;
+        this.averageHighestLevel = campaigns == 0 ? 0 : (double) levels / campaigns;
+    }
+
+    /**
+     * Write the report to the given sink and flush it.
+     */
+    public void print(OutputSink output) {
+        output.println("\n" + Banners.DOUBLE_LINE);
+        output.println("*** CAMPAIGN SIMULATION REPORT ***");
+        output.println(Banners.DOUBLE_LINE);
+        output.println("Campaigns: " + campaigns);
+        output.println(String.format("Elapsed: %.2f s", elapsedNanos / 1_000_000_000.0));
+        output.println(String.format("Throughput: %.1f campaigns/sec", getCampaignsPerSecond()));
+        output.println(String.format("Win rate: %.2f%% (%d/%d)", getWinRate() * 100, victories, campaigns));
+        output.println(String.format("Avg battles won: %.1f | Avg highest level: %.1f", averageBattlesWon, averageHighestLevel));
+        if (prefetchHits + prefetchMisses > 0) {
+            output.println(String.format("Floor prefetch ready: %.1f%% (%d/%d transitions)", getPrefetchHitRate() * 100,
+                prefetchHits, prefetchHits + prefetchMisses));
+        }
+
+        output.println("\nFloor of death:");
+        for (int floor = 1; floor < deathsByFloor.length; floor++) {
+            if (deathsByFloor[floor] > 0) {
+                double share = (double) deathsByFloor[floor] / campaigns;
+                output.println(String.format("  Floor %2d: %6d (%5.2f%%) %s", floor, deathsByFloor[floor], share * 100,
+                    "#".repeat((int) Math.round(share * 50))));
+            }
+        }
+        output.println(Banners.DOUBLE_LINE + "\n");
+        output.flush();
+    }
+
+    public int getCampaigns() { return campaigns; }
+    public int getVictories() { return victories; }
+    public int[] getDeathsByFloor() { return deathsByFloor.clone(); }
+
+    public double getWinRate() {
+        return campaigns == 0 ? 0 : (double) victories / campaigns;
+    }
+
+    /**
+     * Share of floor transitions that found the next floor already prepared.
+     */
+    public double getPrefetchHitRate() {
+        long total = prefetchHits + prefetchMisses;
+        return total == 0 ? 0 : (double) prefetchHits / total;
+    }
+
+    public double getCampaignsPerSecond() {
+        return elapsedNanos == 0 ? 0 : campaigns / (elapsedNanos / 1_000_000_000.0);
+    }
+}
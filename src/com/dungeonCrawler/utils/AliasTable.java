@@ -0,0 +1,84 @@
+package com.dungeonCrawler.utils;
+
+import java.util.SplittableRandom;
+
+/**
+ * Weighted random choice in O(1) per sample (Vose's alias method).
+ * Building the table is O(n); each sample then costs one random double, one array
+ * lookup and one comparison however many outcomes there are. Immutable, so one table
+ * can be shared by every thread; each caller brings its own stream.
+ */
+public final class AliasTable {
+    private final double[] probability;
+    private final int[] alias;
+
+    /**
+     * Table choosing index i with probability weights[i] / sum(weights).
+     * Weights must be non-negative with at least one positive.
+     */
+    public AliasTable(double[] weights) {
+        int n = weights.length;
+        double total = 0;
+        for (double w : weights) {
+            if (w < 0 || Double.isNaN(w) || Double.isInfinite(w)) {
+                throw new IllegalArgumentException("Invalid weight: " + w);
+            }
+            total += w;
+        }
+        if (n == 0 || total <= 0) {
+            throw new IllegalArgumentException("At least one weight must be positive");
+        }
+
+        this.probability = new double[n];
+        this.alias = new int[n];
+
+        // scale so the average column is 1, then pair each short column with a tall one
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // leftovers are full columns (up to rounding error)
+        while (largeCount > 0) {
+            int i = large[--largeCount];
+            probability[i] = 1.0;
+            alias[i] = i;
+        }
+        while (smallCount > 0) {
+            int i = small[--smallCount];
+            probability[i] = 1.0;
+            alias[i] = i;
+        }
+    }
+
+    /**
+     * Draw an index.
+     */
+    public int sample(SplittableRandom random) {
+        double u = random.nextDouble() * probability.length;
+        int column = Math.min((int) u, probability.length - 1);
+        return u - column < probability[column] ? column : alias[column];
+    }
+
+    public int size() { return probability.length; }
+}
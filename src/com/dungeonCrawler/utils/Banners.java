@@ -0,0 +1,14 @@
+package com.dungeonCrawler.utils;
+
+/**
+ * Pre-built separator lines, so screens reuse the same strings instead of
+ * calling repeat() for every banner.
+ */
+public final class Banners {
+    public static final String DOUBLE_LINE = "=".repeat(80);
+    public static final String SINGLE_LINE = "-".repeat(80);
+    public static final String COMBAT_LINE = "=".repeat(60);
+
+    private Banners() {
+    }
+}
@@ -0,0 +1,65 @@
+package com.dungeonCrawler.utils;
+
+import java.io.PrintStream;
+
+/**
+ * Collects text in memory and writes it to the underlying stream in one call per
+ * flush, instead of one synchronized, flushed write per line.
+ * Text is written when flush() is called (end of a screen/turn, or before reading
+ * input) or when the buffer grows past its limit.
+ */
+public class BufferedConsoleSink implements OutputSink {
+    private static final int DEFAULT_LIMIT = 64 * 1024;
+    private static final BufferedConsoleSink STDOUT = new BufferedConsoleSink(System.out, DEFAULT_LIMIT);
+
+    private final PrintStream out;
+    private final int limit;
+    private final StringBuilder buffer;
+
+    public BufferedConsoleSink(PrintStream out, int limit) {
+        this.out = out;
+        this.limit = limit;
+        this.buffer = new StringBuilder(Math.min(limit, 8 * 1024));
+    }
+
+    /**
+     * Shared sink for standard output, used by every console component so their
+     * text stays in order.
+     */
+    public static BufferedConsoleSink stdout() {
+        return STDOUT;
+    }
+
+    @Override
+    public synchronized void print(String text) {
+        buffer.append(text);
+        flushIfFull();
+    }
+
+    @Override
+    public synchronized void println(String line) {
+        buffer.append(line).append(System.lineSeparator());
+        flushIfFull();
+    }
+
+    @Override
+    public synchronized void println() {
+        buffer.append(System.lineSeparator());
+        flushIfFull();
+    }
+
+    @Override
+    public synchronized void flush() {
+        if (buffer.length() > 0) {
+            out.print(buffer);
+            buffer.setLength(0);
+        }
+        out.flush();
+    }
+
+    private void flushIfFull() {
+        if (buffer.length() >= limit) {
+            flush();
+        }
+    }
+}
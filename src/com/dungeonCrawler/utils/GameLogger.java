@@ -1,5 +1,6 @@
 package com.dungeonCrawler.utils;
 
+import com.dungeonCrawler.characters.CharacterSnapshot;
 import com.dungeonCrawler.characters.GameCharacter;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -7,6 +8,7 @@ import java.util.stream.Collectors;
 
 /**
  * Utility class for logging and aggregating game statistics using lambdas and streams.
+ * Output goes to an OutputSink (the shared console sink unless one is given).
  */
 public class GameLogger {
     
@@ -14,74 +16,88 @@ public class GameLogger {
      * Print game statistics using stream operations and lambdas.
      */
     public static void printGameStatistics(GameCharacter[] characters) {
-        System.out.println("\n" + "=".repeat(80));
-        System.out.println("*** FINAL GAME STATISTICS ***");
-        System.out.println("=".repeat(80));
+        printGameStatistics(characters, BufferedConsoleSink.stdout());
+    }
+
+    public static void printGameStatistics(GameCharacter[] characters, OutputSink out) {
+        CharacterSnapshot[] snapshots = snapshotAll(characters);
+        out.println("\n" + Banners.DOUBLE_LINE);
+        out.println("*** FINAL GAME STATISTICS ***");
+        out.println(Banners.DOUBLE_LINE);
         
         // Using stream operations to aggregate and display stats
-        Arrays.stream(characters)
-            .filter(GameCharacter::isCharacterAlive)
+        Arrays.stream(snapshots)
+            .filter(CharacterSnapshot::isAlive)
             .forEach(character -> {
-                System.out.println("\n" + character.getCharacterClass() + ": " + character.getCharacterName());
-                System.out.println("  Level: " + character.getLevel());
-                System.out.println("  Experience: " + character.getExperience());
-                System.out.println("  Health: " + character.getHealth() + "/" + character.getMaxHealth());
-                System.out.println("  Gold: " + character.getGold());
-                System.out.println("  Battles Won: " + character.getBattlesWon());
-                System.out.println("  Items Collected: " + character.getItemsCollected());
+                out.println("\n" + character.getCharacterClass() + ": " + character.getCharacterName());
+                out.println("  Level: " + character.getLevel());
+                out.println("  Experience: " + character.getExperience());
+                out.println("  Health: " + character.getHealth() + "/" + character.getMaxHealth());
+                out.println("  Gold: " + character.getGold());
+                out.println("  Battles Won: " + character.getBattlesWon());
+                out.println("  Items Collected: " + character.getItemsCollected());
             });
         
         // Calculate totals using streams and lambdas
-        int totalBattles = Arrays.stream(characters)
-            .filter(GameCharacter::isCharacterAlive)
-            .mapToInt(GameCharacter::getBattlesWon)
+        int totalBattles = Arrays.stream(snapshots)
+            .filter(CharacterSnapshot::isAlive)
+            .mapToInt(CharacterSnapshot::getBattlesWon)
             .sum();
         
-        int totalItems = Arrays.stream(characters)
-            .filter(GameCharacter::isCharacterAlive)
-            .mapToInt(GameCharacter::getItemsCollected)
+        int totalItems = Arrays.stream(snapshots)
+            .filter(CharacterSnapshot::isAlive)
+            .mapToInt(CharacterSnapshot::getItemsCollected)
             .sum();
         
-        int totalGold = Arrays.stream(characters)
-            .filter(GameCharacter::isCharacterAlive)
-            .mapToInt(GameCharacter::getGold)
+        int totalGold = Arrays.stream(snapshots)
+            .filter(CharacterSnapshot::isAlive)
+            .mapToInt(CharacterSnapshot::getGold)
             .sum();
         
-        System.out.println("\n" + "-".repeat(80));
-        System.out.println("TOTALS:");
-        System.out.println("  Total Battles Won: " + totalBattles);
-        System.out.println("  Total Items Collected: " + totalItems);
-        System.out.println("  Total Gold Collected: " + totalGold);
-        System.out.println("-".repeat(80) + "\n");
+        out.println("\n" + Banners.SINGLE_LINE);
+        out.println("TOTALS:");
+        out.println("  Total Battles Won: " + totalBattles);
+        out.println("  Total Items Collected: " + totalItems);
+        out.println("  Total Gold Collected: " + totalGold);
+        out.println(Banners.SINGLE_LINE + "\n");
     }
     
     /**
      * Print event logs with filtering and formatting.
      */
     public static void printEventLogs(GameCharacter[] characters) {
-        System.out.println("\n" + "=".repeat(80));
-        System.out.println("*** EVENT LOG ***");
-        System.out.println("=".repeat(80) + "\n");
+        printEventLogs(characters, BufferedConsoleSink.stdout());
+    }
+
+    public static void printEventLogs(GameCharacter[] characters, OutputSink out) {
+        out.println("\n" + Banners.DOUBLE_LINE);
+        out.println("*** EVENT LOG ***");
+        out.println(Banners.DOUBLE_LINE + "\n");
         
         // Use streams to flatten and filter all logs
         Arrays.stream(characters)
-            .flatMap(character -> character.getBattleLog().stream())
-            .forEach(System.out::println);
+            .flatMap(character -> character.getBattleLog().getMessages().stream())
+            .forEach(out::println);
         
-        System.out.println("\n" + "=".repeat(80) + "\n");
+        out.println("\n" + Banners.DOUBLE_LINE + "\n");
     }
     
     /**
      * Rank characters by a specific metric using streams.
      */
     public static void rankCharactersByBattles(GameCharacter[] characters) {
-        System.out.println("\n*** RANKING BY BATTLES WON ***\n");
+        rankCharactersByBattles(characters, BufferedConsoleSink.stdout());
+    }
+
+    public static void rankCharactersByBattles(GameCharacter[] characters, OutputSink out) {
+        CharacterSnapshot[] snapshots = snapshotAll(characters);
+        out.println("\n*** RANKING BY BATTLES WON ***\n");
         
-        Arrays.stream(characters)
-            .filter(GameCharacter::isCharacterAlive)
-            .sorted(Comparator.comparingInt(GameCharacter::getBattlesWon).reversed())
+        Arrays.stream(snapshots)
+            .filter(CharacterSnapshot::isAlive)
+            .sorted(Comparator.comparingInt(CharacterSnapshot::getBattlesWon).reversed())
             .forEach(character -> 
-                System.out.println(character.getCharacterName() + " (" + character.getCharacterClass() + "): " + 
+                out.println(character.getCharacterName() + " (" + character.getCharacterClass() + "): " + 
                     character.getBattlesWon() + " battles")
             );
     }
@@ -90,17 +106,31 @@ public class GameLogger {
      * Rank characters by gold collected.
      */
     public static void rankCharactersByGold(GameCharacter[] characters) {
-        System.out.println("\n*** RANKING BY GOLD COLLECTED ***\n");
+        rankCharactersByGold(characters, BufferedConsoleSink.stdout());
+    }
+
+    public static void rankCharactersByGold(GameCharacter[] characters, OutputSink out) {
+        CharacterSnapshot[] snapshots = snapshotAll(characters);
+        out.println("\n*** RANKING BY GOLD COLLECTED ***\n");
         
-        Arrays.stream(characters)
-            .filter(GameCharacter::isCharacterAlive)
-            .sorted(Comparator.comparingInt(GameCharacter::getGold).reversed())
+        Arrays.stream(snapshots)
+            .filter(CharacterSnapshot::isAlive)
+            .sorted(Comparator.comparingInt(CharacterSnapshot::getGold).reversed())
             .forEach(character -> 
-                System.out.println(character.getCharacterName() + " (" + character.getCharacterClass() + "): " + 
+                out.println(character.getCharacterName() + " (" + character.getCharacterClass() + "): " + 
                     character.getGold() + " gold")
             );
     }
     
+    /**
+     * Take one consistent snapshot per character, so a report never mixes moments.
+     */
+    private static CharacterSnapshot[] snapshotAll(GameCharacter[] characters) {
+        return Arrays.stream(characters)
+            .map(GameCharacter::snapshot)
+            .toArray(CharacterSnapshot[]::new);
+    }
+    
     /**
      * Find highest level character.
      */
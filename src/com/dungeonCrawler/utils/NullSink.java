@@ -0,0 +1,31 @@
+package com.dungeonCrawler.utils;
+
+/**
+ * Output sink that discards all text (headless mode).
+ */
+public final class NullSink implements OutputSink {
+
+    NullSink() {
+    }
+
+    @Override
+    public void print(String text) {
+    }
+
+    @Override
+    public void println(String line) {
+    }
+
+    @Override
+    public void println() {
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+}
@@ -0,0 +1,31 @@
+package com.dungeonCrawler.utils;
+
+/**
+ * Destination for all game text.
+ * The console front end uses a BufferedConsoleSink that writes whole screens at once;
+ * headless runs use NULL so no text is ever written.
+ */
+public interface OutputSink {
+    /**
+     * Sink that discards everything.
+     */
+    OutputSink NULL = new NullSink();
+
+    void print(String text);
+
+    void println(String line);
+
+    void println();
+
+    /**
+     * Push buffered text to the destination (end of a screen or turn, or before input).
+     */
+    void flush();
+
+    /**
+     * False when output is discarded, so callers can skip building expensive text.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+}
@@ -0,0 +1,62 @@
+package com.dungeonCrawler.utils;
+
+import java.util.SplittableRandom;
+
+/**
+ * Central source of randomness for the game.
+ * A RandomStreams instance is seeded once and hands out independent SplittableRandom
+ * streams (per campaign, room, hero or boss), so a whole run can be reproduced from a
+ * single seed and no RNG instance is ever shared between threads on a hot path.
+ *
+ * The process-wide default is seeded from -Ddungeon.seed when present.
+ */
+public final class RandomStreams {
+    private static volatile RandomStreams global = new RandomStreams(initialSeed());
+
+    private final long seed;
+    private final SplittableRandom root;
+
+    public RandomStreams(long seed) {
+        this.seed = seed;
+        this.root = new SplittableRandom(seed);
+    }
+
+    /**
+     * Split off an independent stream. The returned stream is not thread-safe and
+     * should be owned by a single component (hero, room, boss...).
+     */
+    public synchronized SplittableRandom split() {
+        return root.split();
+    }
+
+    /**
+     * Derive a child service, e.g. one per campaign in a batch simulation.
+     */
+    public synchronized RandomStreams fork() {
+        return new RandomStreams(root.nextLong());
+    }
+
+    public long getSeed() { return seed; }
+
+    /**
+     * Process-wide streams used by components created without an explicit stream.
+     */
+    public static RandomStreams global() {
+        return global;
+    }
+
+    /**
+     * Re-seed the process-wide streams (call before creating any game objects).
+     */
+    public static void setGlobalSeed(long seed) {
+        global = new RandomStreams(seed);
+    }
+
+    private static long initialSeed() {
+        String property = System.getProperty("dungeon.seed");
+        if (property != null) {
+            return Long.parseLong(property.trim());
+        }
+        return System.nanoTime() ^ System.currentTimeMillis() << 21;
+    }
+}